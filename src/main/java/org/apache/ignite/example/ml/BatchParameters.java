@@ -0,0 +1,54 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.util.List;
+import java.util.Map;
+import org.gridgain.ml.IgniteMl;
+import org.gridgain.ml.model.MlBatchJobParameters;
+import org.gridgain.ml.model.ModelConfig;
+import org.gridgain.ml.model.ModelType;
+
+/**
+ * Builds the {@link IgniteMl#batchPredict(MlBatchJobParameters)} parameters of the jobs that score inputs in chunks.
+ */
+final class BatchParameters {
+    private BatchParameters() {
+    }
+
+    /**
+     * Returns the parameters scoring the given inputs with a model.
+     *
+     * @param url Model location, or {@code null} to use the model deployed under {@code id} and {@code version}.
+     */
+    static MlBatchJobParameters of(
+            String id,
+            String version,
+            ModelType type,
+            String url,
+            int batchSize,
+            Map<String, String> properties,
+            List<String> inputs
+    ) {
+        var builder = MlBatchJobParameters.builder()
+                .id(id)
+                .version(version)
+                .type(type)
+                .config(ModelConfig.builder().batchSize(batchSize).build());
+
+        if (url != null) {
+            builder.url(url);
+        }
+
+        properties.forEach(builder::property);
+
+        return builder.batchInput(inputs).build();
+    }
+}
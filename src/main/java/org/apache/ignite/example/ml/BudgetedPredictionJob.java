@@ -0,0 +1,92 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.MalformedModelException;
+import ai.djl.inference.Predictor;
+import ai.djl.repository.zoo.Criteria;
+import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.repository.zoo.ZooModel;
+import ai.djl.translate.TranslateException;
+import ai.djl.translate.TranslatorFactory;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.compute.ComputeJob;
+import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.apache.ignite.marshalling.Marshaller;
+
+/**
+ * Runs a batch prediction with a model held by the node's {@link ModelMemoryBudget}.
+ * <p>
+ * The model is loaded from its local directory on first use and stays resident until the budget needs the memory for
+ * more recently used models. The result holds the label of every input.
+ */
+public class BudgetedPredictionJob implements ComputeJob<BudgetedPredictionParameters, List<String>> {
+    @Override
+    public CompletableFuture<List<String>> executeAsync(
+            JobExecutionContext context,
+            BudgetedPredictionParameters params
+    ) {
+        String key = params.id() + ':' + params.version();
+        Path modelPath = Path.of(params.modelDir());
+
+        try (ModelMemoryBudget.Lease lease = ModelMemoryBudget.instance().acquire(key, modelPath, () -> load(params));
+                Predictor<String, Object> predictor = lease.<String, Object>model().newPredictor()) {
+            List<Object> predictions = predictor.batchPredict(params.inputs());
+            List<String> labels = new ArrayList<>(predictions.size());
+
+            for (Object prediction : predictions) {
+                labels.add(Predictions.label(prediction));
+            }
+
+            return CompletableFuture.completedFuture(labels);
+        } catch (IOException | ModelNotFoundException | MalformedModelException | TranslateException e) {
+            throw new IllegalStateException("Prediction failed for model " + key, e);
+        }
+    }
+
+    @Override
+    public Marshaller<BudgetedPredictionParameters, byte[]> inputMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+
+    @Override
+    public Marshaller<List<String>, byte[]> resultMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ZooModel<String, Object> load(BudgetedPredictionParameters params) throws IOException,
+            ModelNotFoundException, MalformedModelException {
+        Class<Object> outputClass;
+        TranslatorFactory translatorFactory;
+
+        try {
+            outputClass = (Class<Object>) Class.forName(params.outputClass());
+            translatorFactory = (TranslatorFactory) Class.forName(params.translatorFactory())
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot instantiate model classes of " + params.id(), e);
+        }
+
+        return Criteria.builder()
+                .setTypes(String.class, outputClass)
+                .optModelPath(Path.of(params.modelDir()))
+                .optEngine(params.engine())
+                .optTranslatorFactory(translatorFactory)
+                .build()
+                .loadModel();
+    }
+}
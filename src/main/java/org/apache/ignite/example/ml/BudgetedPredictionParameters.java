@@ -0,0 +1,137 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arguments of {@link BudgetedPredictionJob}.
+ */
+public class BudgetedPredictionParameters implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+    private final String version;
+    private final String modelDir;
+    private final String engine;
+    private final String outputClass;
+    private final String translatorFactory;
+    private final List<String> inputs;
+
+    private BudgetedPredictionParameters(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
+        this.modelDir = builder.modelDir;
+        this.engine = builder.engine;
+        this.outputClass = builder.outputClass;
+        this.translatorFactory = builder.translatorFactory;
+        this.inputs = List.copyOf(builder.inputs);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    /** Local model directory on the executing node. URLs are not supported. */
+    public String modelDir() {
+        return modelDir;
+    }
+
+    /** DJL engine name, e.g. {@code PyTorch}. */
+    public String engine() {
+        return engine;
+    }
+
+    public String outputClass() {
+        return outputClass;
+    }
+
+    public String translatorFactory() {
+        return translatorFactory;
+    }
+
+    public List<String> inputs() {
+        return inputs;
+    }
+
+    /**
+     * Builder of {@link BudgetedPredictionParameters}.
+     */
+    public static class Builder {
+        private String id;
+        private String version;
+        private String modelDir;
+        private String engine = "PyTorch";
+        private String outputClass;
+        private String translatorFactory;
+        private final List<String> inputs = new ArrayList<>();
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder modelDir(String modelDir) {
+            this.modelDir = modelDir;
+            return this;
+        }
+
+        public Builder engine(String engine) {
+            this.engine = engine;
+            return this;
+        }
+
+        public Builder outputClass(String outputClass) {
+            this.outputClass = outputClass;
+            return this;
+        }
+
+        public Builder translatorFactory(String translatorFactory) {
+            this.translatorFactory = translatorFactory;
+            return this;
+        }
+
+        public Builder input(String input) {
+            inputs.add(input);
+            return this;
+        }
+
+        public Builder inputs(List<String> inputs) {
+            this.inputs.addAll(inputs);
+            return this;
+        }
+
+        public BudgetedPredictionParameters build() {
+            if (id == null || version == null || modelDir == null) {
+                throw new IllegalArgumentException("Model id, version and model directory must be set");
+            }
+            if (outputClass == null || translatorFactory == null) {
+                throw new IllegalArgumentException("Output class and translator factory must be set");
+            }
+
+            return new BudgetedPredictionParameters(this);
+        }
+    }
+}
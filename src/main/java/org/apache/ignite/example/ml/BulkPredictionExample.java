@@ -0,0 +1,232 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.modality.Classifications;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.apache.ignite.IgniteServer;
+import org.apache.ignite.InitParameters;
+import org.apache.ignite.client.IgniteClient;
+import org.gridgain.ml.model.MlSimpleJobParameters;
+import org.gridgain.ml.model.ModelConfig;
+import org.gridgain.ml.model.ModelType;
+
+/**
+ * High-concurrency client example demonstrating:
+ * <p>
+ * 1. Pipelining many simple predictions from a single thread with a bounded in-flight window
+ * 2. Driving the same client from thousands of virtual threads
+ * <p>
+ * Virtual threads require Java 21; on older runtimes the example falls back to a cached thread pool.
+ */
+public class BulkPredictionExample {
+
+    private static final String MODEL_ID = "sentiment-model";
+    private static final String MODEL_VERSION = "1.0.0";
+    private static final int REQUEST_COUNT = 1000;
+    private static final int MAX_IN_FLIGHT = 64;
+    private static final String CONFIG_FILE_PATH = System.getenv("IGNITE_HOME") + "/etc/gridgain-config.conf";
+    private static final String LICENSE_FILE_PATH = System.getenv("IGNITE_HOME") + "/license/license.conf";
+    private static final String WORK_FOLDER_PATH = "work";
+
+    private static final String[] SAMPLE_INPUTS = {
+            "This movie is very good",
+            "This book is not good",
+            "This food is very good",
+            "This game is not good",
+            "This song is very good"
+    };
+
+    private IgniteServer server;
+    private IgniteClient client;
+    private MlBulkPredictionClient bulkClient;
+
+    public static void main(String[] args) {
+        BulkPredictionExample example = new BulkPredictionExample();
+
+        try {
+            example.setupEmbeddedServer();
+            example.setupClient();
+
+            example.executePipelinedPredictions();
+            example.executeVirtualThreadPredictions();
+
+            System.out.println("Bulk prediction example completed successfully!");
+
+        } catch (Throwable e) {
+            System.err.println("Example failed: " + e.getMessage());
+            throw new RuntimeException(e);
+        } finally {
+            example.cleanup();
+        }
+    }
+
+    private void setupEmbeddedServer() throws IOException {
+        System.out.println("Setting up GridGain embedded server...");
+
+        Path configPath = Paths.get(CONFIG_FILE_PATH);
+        Path licensePath = Paths.get(LICENSE_FILE_PATH);
+        Path workDir = Paths.get(WORK_FOLDER_PATH);
+
+        if (!Files.exists(configPath)) {
+            throw new RuntimeException("Config file not found at " + configPath);
+        }
+        if (!Files.exists(licensePath)) {
+            throw new RuntimeException("License file not found at " + licensePath);
+        }
+
+        server = IgniteServer.start("defaultNode", configPath, workDir);
+
+        String licenseStr = Files.readString(licensePath);
+        InitParameters initParameters = InitParameters.builder()
+                .metaStorageNodeNames("defaultNode")
+                .clusterName("cluster")
+                .clusterConfiguration(licenseStr)
+                .build();
+
+        server.initCluster(initParameters);
+
+        System.out.println("Embedded server initialized");
+    }
+
+    private void setupClient() {
+        System.out.println("Setting up client connection for ML_EMBEDDED compute...");
+
+        client = IgniteClient.builder()
+                .addresses("127.0.0.1:10800")
+                .build();
+
+        bulkClient = new MlBulkPredictionClient(client, MAX_IN_FLIGHT);
+
+        System.out.println("Client connection established");
+    }
+
+    private static MlSimpleJobParameters jobParams(String input) {
+        return MlSimpleJobParameters.builder()
+                .id(MODEL_ID)
+                .version(MODEL_VERSION)
+                .type(ModelType.PYTORCH)
+                .config(ModelConfig.builder().build())
+                .property("input_class", String.class.getName())
+                .property("output_class", Classifications.class.getName())
+                .property("application", "ai.djl.Application$NLP$SENTIMENT_ANALYSIS")
+                .property("translatorFactory", "ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                .input(input)
+                .build();
+    }
+
+    /**
+     * Example 1: all predictions submitted from the main thread, with up to {@value #MAX_IN_FLIGHT} in flight.
+     */
+    private void executePipelinedPredictions() {
+        System.out.println("\n=== Pipelined Predictions ===");
+
+        List<MlSimpleJobParameters> requests = new ArrayList<>(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            requests.add(jobParams(SAMPLE_INPUTS[i % SAMPLE_INPUTS.length]));
+        }
+
+        long startTime = System.currentTimeMillis();
+
+        List<Classifications> results = bulkClient.predictAll(requests);
+
+        long duration = System.currentTimeMillis() - startTime;
+
+        printSummary(results, duration);
+        System.out.println("Pipelined predictions complete!");
+    }
+
+    /**
+     * Example 2: one virtual thread per prediction, each blocking on its own result.
+     */
+    private void executeVirtualThreadPredictions() throws Exception {
+        System.out.println("\n=== Virtual Thread Predictions ===");
+
+        long startTime = System.currentTimeMillis();
+        List<Classifications> results = new ArrayList<>(REQUEST_COUNT);
+
+        ExecutorService executor = newPerTaskExecutor();
+
+        try {
+            List<Future<Classifications>> futures = new ArrayList<>(REQUEST_COUNT);
+
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                MlSimpleJobParameters params = jobParams(SAMPLE_INPUTS[i % SAMPLE_INPUTS.length]);
+
+                futures.add(executor.submit(() -> bulkClient.<Classifications>predict(params)));
+            }
+
+            for (Future<Classifications> future : futures) {
+                results.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+
+        printSummary(results, duration);
+        System.out.println("Virtual thread predictions complete!");
+    }
+
+    private static void printSummary(List<Classifications> results, long duration) {
+        for (int i = 0; i < SAMPLE_INPUTS.length; i++) {
+            Classifications.Classification best = results.get(i).best();
+            System.out.printf("   \"%s\" → %s (%.2f%%)\n",
+                    SAMPLE_INPUTS[i],
+                    best.getClassName(),
+                    best.getProbability() * 100);
+        }
+
+        System.out.println("   Predictions: " + results.size());
+        System.out.println("   Total processing time: " + duration + "ms");
+        System.out.printf("   Throughput: %.1f predictions/s\n", results.size() * 1000.0 / Math.max(1, duration));
+    }
+
+    /**
+     * Returns a virtual-thread-per-task executor when running on Java 21 or later, and a cached thread pool otherwise.
+     */
+    private static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.out.println("   Virtual threads are not available, using a cached thread pool");
+
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    private void cleanup() {
+        try {
+            System.out.println("Cleanup started");
+
+            if (client != null) {
+                client.close();
+                System.out.println("  Client connection closed");
+            }
+
+            if (server != null) {
+                server.shutdown();
+                System.out.println("  Embedded server shutdown complete");
+            }
+            System.out.println("Cleanup completed!");
+        } catch (Exception e) {
+            System.err.println("Cleanup error: " + e.getMessage());
+        }
+    }
+}
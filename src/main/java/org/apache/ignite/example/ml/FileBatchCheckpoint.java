@@ -0,0 +1,197 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Progress of {@link FileBatchPredictionJob} over a single input file.
+ * <p>
+ * The checkpoint is stored in the checkpoint directory of the executing node as
+ * {@code <input name>-<path hash>.checkpoint}, so input files are never modified and may live in a read-only
+ * directory. It is rewritten atomically after every chunk, so it doubles as a progress report that can be polled on
+ * that node while the job is running. It records the size and the last-modified time of the input file and the
+ * destination of the predictions, so that a checkpoint left over from a file that has since been replaced, or from a
+ * run writing elsewhere, is not trusted.
+ */
+public class FileBatchCheckpoint {
+    private static final String SUFFIX = ".checkpoint";
+
+    /** Checkpoint directory within the node work directory. */
+    private static final String DEFAULT_DIR = "file-batch-checkpoints";
+
+    private final long offset;
+    private final long size;
+    private final long lastModified;
+    private final String output;
+    private final long rows;
+    private final long outputLength;
+    private final boolean completed;
+
+    FileBatchCheckpoint(
+            long offset,
+            long size,
+            long lastModified,
+            String output,
+            long rows,
+            long outputLength,
+            boolean completed
+    ) {
+        this.offset = offset;
+        this.size = size;
+        this.lastModified = lastModified;
+        this.output = output;
+        this.rows = rows;
+        this.outputLength = outputLength;
+        this.completed = completed;
+    }
+
+    /**
+     * Returns the checkpoint directory: the configured one, or the {@value #DEFAULT_DIR} directory of the node work
+     * directory ({@code $IGNITE_HOME/work}, or {@code work} relative to the node process if {@code IGNITE_HOME} is not
+     * set).
+     *
+     * @param configured Configured directory, or {@code null}.
+     */
+    public static Path directory(String configured) {
+        if (configured != null) {
+            return Path.of(configured);
+        }
+
+        String home = System.getenv("IGNITE_HOME");
+
+        return home == null ? Path.of("work", DEFAULT_DIR) : Path.of(home, "work", DEFAULT_DIR);
+    }
+
+    /**
+     * Reads the checkpoint of the given input file.
+     *
+     * @return Checkpoint, or {@code null} if the file has not been processed yet.
+     */
+    public static FileBatchCheckpoint read(Path dir, Path inputFile) throws IOException {
+        Path path = pathOf(dir, inputFile);
+
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(path)) {
+            props.load(reader);
+        }
+
+        return new FileBatchCheckpoint(
+                Long.parseLong(props.getProperty("offset")),
+                Long.parseLong(props.getProperty("size")),
+                Long.parseLong(props.getProperty("lastModified", "-1")),
+                props.getProperty("output"),
+                Long.parseLong(props.getProperty("rows")),
+                Long.parseLong(props.getProperty("outputLength")),
+                Boolean.parseBoolean(props.getProperty("completed"))
+        );
+    }
+
+    void write(Path dir, Path inputFile) throws IOException {
+        Properties props = new Properties();
+        props.setProperty("offset", Long.toString(offset));
+        props.setProperty("size", Long.toString(size));
+        props.setProperty("lastModified", Long.toString(lastModified));
+        props.setProperty("output", output);
+        props.setProperty("rows", Long.toString(rows));
+        props.setProperty("outputLength", Long.toString(outputLength));
+        props.setProperty("completed", Boolean.toString(completed));
+
+        Files.createDirectories(dir);
+
+        Path path = pathOf(dir, inputFile);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (Writer writer = Files.newBufferedWriter(tmp)) {
+            props.store(writer, null);
+        }
+
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static void delete(Path dir, Path inputFile) throws IOException {
+        Files.deleteIfExists(pathOf(dir, inputFile));
+    }
+
+    /**
+     * Returns the last-modified time of the input file, in milliseconds, as stored in the checkpoint.
+     */
+    static long lastModifiedOf(Path inputFile) throws IOException {
+        return Files.getLastModifiedTime(inputFile).toMillis();
+    }
+
+    private static Path pathOf(Path dir, Path inputFile) {
+        String path = inputFile.toAbsolutePath().normalize().toString();
+        UUID hash = UUID.nameUUIDFromBytes(path.getBytes(StandardCharsets.UTF_8));
+
+        return dir.resolve(inputFile.getFileName() + "-" + hash + SUFFIX);
+    }
+
+    /** Byte offset in the input file of the first row that has not been scored yet. */
+    public long offset() {
+        return offset;
+    }
+
+    /** Size of the input file in bytes. */
+    public long size() {
+        return size;
+    }
+
+    /** Last-modified time of the input file in milliseconds, or {@code -1} if unknown. */
+    public long lastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Destination of the predictions: {@code table:<name>} or {@code file:<absolute path>}, or {@code null} if unknown.
+     */
+    public String output() {
+        return output;
+    }
+
+    /**
+     * Checks that the input file still has the size and the last-modified time recorded in the checkpoint, and that
+     * the predictions go to the same destination.
+     */
+    public boolean matches(Path inputFile, String output) throws IOException {
+        return size == Files.size(inputFile) && lastModified == lastModifiedOf(inputFile) && output.equals(this.output);
+    }
+
+    /** Number of data rows scored so far. */
+    public long rows() {
+        return rows;
+    }
+
+    /** Length of the output file after the last chunk, used to drop a partially written chunk on resume. */
+    public long outputLength() {
+        return outputLength;
+    }
+
+    public boolean completed() {
+        return completed;
+    }
+
+    /** Share of the input file processed so far, in percent. */
+    public double percent() {
+        return size == 0 ? 100.0 : offset * 100.0 / size;
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.modality.Classifications;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.IgniteServer;
+import org.apache.ignite.InitParameters;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.compute.JobDescriptor;
+import org.apache.ignite.compute.JobExecution;
+import org.apache.ignite.compute.JobTarget;
+import org.apache.ignite.deployment.DeploymentUnit;
+import org.apache.ignite.lang.CancelHandle;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.apache.ignite.sql.IgniteSql;
+import org.apache.ignite.sql.ResultSet;
+import org.apache.ignite.sql.SqlRow;
+import org.gridgain.ml.model.ModelType;
+
+/**
+ * File-based batch scoring example demonstrating:
+ * <p>
+ * 1. Scoring a CSV file that is read on the executing node instead of being shipped with the job
+ * 2. Writing the predictions into a table
+ * 3. Cancelling the job and resuming it from its checkpoint
+ * <p>
+ * The example classes must be deployed as the {@value #JOB_UNIT} unit so that {@link FileBatchPredictionJob} can be
+ * loaded by the node. Progress is polled by reading the checkpoint from this process, which only works because the
+ * node is embedded and shares its file system; with a remote node the checkpoint must be read on that node.
+ */
+public class FileBatchPredictionExample {
+
+    private static final String MODEL_ID = "sentiment-model";
+    private static final String MODEL_VERSION = "1.0.0";
+    private static final String JOB_UNIT = "ml-examples";
+    private static final String JOB_UNIT_VERSION = "1.0.0";
+    private static final String CONFIG_FILE_PATH = System.getenv("IGNITE_HOME") + "/etc/gridgain-config.conf";
+    private static final String LICENSE_FILE_PATH = System.getenv("IGNITE_HOME") + "/license/license.conf";
+    private static final String WORK_FOLDER_PATH = "work";
+    private static final Path INPUT_FILE_PATH = Paths.get(WORK_FOLDER_PATH, "reviews.csv");
+    private static final Path CHECKPOINT_DIR = Paths.get(WORK_FOLDER_PATH, "file-batch-checkpoints");
+    private static final int ROW_COUNT = 210;
+    private static final int CHUNK_SIZE = 10;
+
+    private static final String[] SAMPLE_REVIEWS = {
+            "This smartphone is amazing! Great battery life.",
+            "Poor quality headphones, broke after one week.",
+            "Excellent book, very informative and well written.",
+            "Fast laptop, perfect for work and gaming.",
+            "Boring story, could not finish reading it.",
+            "Great value tablet, recommended for students.",
+            "Life-changing book, everyone should read this!"
+    };
+
+    private IgniteServer server;
+    private Ignite ignite;
+    private IgniteClient client;
+    private IgniteSql sql;
+
+    public static void main(String[] args) {
+        FileBatchPredictionExample example = new FileBatchPredictionExample();
+
+        try {
+            example.setupEmbeddedServer();
+            example.setupClient();
+            example.setupSampleData();
+
+            example.executeFileBatchPrediction();
+            example.printPredictions();
+
+            System.out.println("File batch prediction example completed successfully!");
+
+        } catch (Throwable e) {
+            System.err.println("Example failed: " + e.getMessage());
+            throw new RuntimeException(e);
+        } finally {
+            example.cleanup();
+        }
+    }
+
+    private void setupEmbeddedServer() throws IOException {
+        System.out.println("Setting up GridGain embedded server...");
+
+        Path configPath = Paths.get(CONFIG_FILE_PATH);
+        Path licensePath = Paths.get(LICENSE_FILE_PATH);
+        Path workDir = Paths.get(WORK_FOLDER_PATH);
+
+        if (!Files.exists(configPath)) {
+            throw new RuntimeException("Config file not found at " + configPath);
+        }
+        if (!Files.exists(licensePath)) {
+            throw new RuntimeException("License file not found at " + licensePath);
+        }
+
+        server = IgniteServer.start("defaultNode", configPath, workDir);
+
+        String licenseStr = Files.readString(licensePath);
+        InitParameters initParameters = InitParameters.builder()
+                .metaStorageNodeNames("defaultNode")
+                .clusterName("cluster")
+                .clusterConfiguration(licenseStr)
+                .build();
+
+        server.initCluster(initParameters);
+        ignite = server.api();
+
+        System.out.println("Embedded server initialized");
+    }
+
+    private void setupClient() {
+        System.out.println("Setting up client connection...");
+
+        client = IgniteClient.builder()
+                .addresses("127.0.0.1:10800")
+                .build();
+
+        sql = ignite.sql();
+
+        System.out.println("Client connection established");
+    }
+
+    /**
+     * Writes the input file next to the node work directory and creates the output table.
+     * In a real deployment the file would be copied to the node or shipped inside a deployment unit.
+     */
+    private void setupSampleData() throws IOException {
+        System.out.println("Setting up sample data for file batch prediction...");
+
+        List<String> lines = new ArrayList<>(ROW_COUNT + 1);
+        lines.add("review_id,review_text");
+
+        for (int i = 0; i < ROW_COUNT; i++) {
+            lines.add((i + 1) + ",\"" + SAMPLE_REVIEWS[i % SAMPLE_REVIEWS.length] + "\"");
+        }
+
+        Files.write(INPUT_FILE_PATH, lines);
+
+        sql.execute(null,
+                "CREATE TABLE IF NOT EXISTS review_predictions (" +
+                        "file_name VARCHAR(1000), " +
+                        "row_id BIGINT, " +
+                        "input VARCHAR(1000), " +
+                        "prediction VARCHAR(100), " +
+                        "PRIMARY KEY (file_name, row_id)" +
+                        ")");
+
+        System.out.println("Sample data setup complete");
+    }
+
+    /**
+     * Submits the file batch job, cancels it once its first chunks are checkpointed and submits it again. The second
+     * run continues from the last scored chunk instead of starting over.
+     */
+    private void executeFileBatchPrediction() throws Exception {
+        System.out.println("\n=== File Batch ML Prediction ===");
+
+        FileBatchPredictionParameters jobParams = FileBatchPredictionParameters.builder()
+                .id(MODEL_ID)
+                .version(MODEL_VERSION)
+                .type(ModelType.PYTORCH)
+                .batchSize(4)
+                .property("input_class", String.class.getName())
+                .property("output_class", Classifications.class.getName())
+                .property("application", "ai.djl.Application$NLP$SENTIMENT_ANALYSIS")
+                .property("translatorFactory", "ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                .inputFile(INPUT_FILE_PATH.toAbsolutePath().toString())
+                .inputColumn(1)
+                .skipHeader(true)
+                .chunkSize(CHUNK_SIZE)
+                .outputTable("review_predictions")
+                .checkpointDir(CHECKPOINT_DIR.toAbsolutePath().toString())
+                .build();
+
+        JobDescriptor<FileBatchPredictionParameters, Long> descriptor = JobDescriptor.builder(
+                        FileBatchPredictionJob.class)
+                .units(List.of(
+                        new DeploymentUnit(JOB_UNIT, JOB_UNIT_VERSION),
+                        new DeploymentUnit(MODEL_ID, MODEL_VERSION)))
+                .argumentMarshaller(ByteArrayMarshaller.create())
+                .build();
+
+        System.out.println("  Input file: " + INPUT_FILE_PATH.toAbsolutePath());
+
+        // First run: cancelled as soon as the first chunk is checkpointed.
+        CancelHandle cancelHandle = CancelHandle.create();
+
+        JobExecution<Long> firstRun = client.compute().submitAsync(
+                JobTarget.anyNode(client.clusterNodes()),
+                descriptor,
+                jobParams,
+                cancelHandle.token()
+        ).get();
+
+        while (readCheckpoint() == null && !firstRun.resultAsync().isDone()) {
+            Thread.sleep(100);
+        }
+
+        cancelHandle.cancel();
+
+        try {
+            long scored = firstRun.resultAsync().get();
+            System.out.println("  First run completed before it could be cancelled: " + scored + " rows");
+        } catch (ExecutionException | CancellationException e) {
+            FileBatchCheckpoint checkpoint = readCheckpoint();
+            long rows = checkpoint == null ? 0 : checkpoint.rows();
+
+            System.out.println("  First run cancelled after " + rows + " rows");
+        }
+
+        // Second run: the same job continues from the checkpoint.
+        long startTime = System.currentTimeMillis();
+
+        JobExecution<Long> secondRun = client.compute().submitAsync(
+                JobTarget.anyNode(client.clusterNodes()),
+                descriptor,
+                jobParams
+        ).get();
+
+        CompletableFuture<Long> result = secondRun.resultAsync();
+
+        while (!result.isDone()) {
+            FileBatchCheckpoint checkpoint = readCheckpoint();
+
+            if (checkpoint != null) {
+                System.out.printf("  Progress: %d rows (%.1f%%)\n", checkpoint.rows(), checkpoint.percent());
+            }
+
+            Thread.sleep(500);
+        }
+
+        long scored = result.get();
+        long duration = System.currentTimeMillis() - startTime;
+
+        System.out.println("  Rows scored by the resumed run: " + scored + " of " + ROW_COUNT);
+        System.out.println("  Total processing time: " + duration + "ms");
+        System.out.println("File batch ML prediction complete!");
+    }
+
+    /**
+     * Reads the checkpoint of the input file. The checkpoint lives on the executing node, which is the embedded node
+     * of this process.
+     */
+    private static FileBatchCheckpoint readCheckpoint() throws IOException {
+        return FileBatchCheckpoint.read(CHECKPOINT_DIR, INPUT_FILE_PATH);
+    }
+
+    private void printPredictions() {
+        try (ResultSet<SqlRow> rs = sql.execute(null, "SELECT COUNT(*) AS cnt FROM review_predictions")) {
+            System.out.println("\n  Stored predictions: " + rs.next().longValue("cnt"));
+        }
+
+        try (ResultSet<SqlRow> rs = sql.execute(null,
+                "SELECT row_id, input, prediction FROM review_predictions ORDER BY row_id LIMIT ?",
+                SAMPLE_REVIEWS.length)) {
+            while (rs.hasNext()) {
+                SqlRow row = rs.next();
+                System.out.printf("   %d. \"%s\" → %s\n",
+                        row.longValue("row_id") + 1,
+                        row.stringValue("input"),
+                        row.stringValue("prediction"));
+            }
+        }
+    }
+
+    private void cleanup() {
+        try {
+            System.out.println("Cleanup started");
+            Files.deleteIfExists(INPUT_FILE_PATH);
+            FileBatchCheckpoint.delete(CHECKPOINT_DIR, INPUT_FILE_PATH);
+
+            if (sql != null) {
+                sql.execute(null, "DROP TABLE IF EXISTS review_predictions");
+                System.out.println("  Sample data cleaned up");
+            }
+
+            if (client != null) {
+                client.close();
+                System.out.println("  Client connection closed");
+            }
+
+            if (server != null) {
+                server.shutdown();
+                System.out.println("  Embedded server shutdown complete");
+            }
+            System.out.println("Cleanup completed!");
+        } catch (Exception e) {
+            System.err.println("Cleanup error: " + e.getMessage());
+        }
+    }
+}
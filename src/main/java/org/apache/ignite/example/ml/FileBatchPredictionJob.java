@@ -0,0 +1,289 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.Ignite;
+import org.apache.ignite.compute.ComputeJob;
+import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.apache.ignite.marshalling.Marshaller;
+import org.apache.ignite.table.RecordView;
+import org.apache.ignite.table.Tuple;
+import org.gridgain.ml.IgniteMl;
+import org.gridgain.ml.model.MlBatchJobParameters;
+
+/**
+ * Scores CSV files located on the executing node and writes the predictions into a table or an output file.
+ * <p>
+ * The files are read chunk by chunk through {@link MappedCsvReader}, every chunk is scored with
+ * {@link IgniteMl#batchPredict(MlBatchJobParameters)} and written out before a {@link FileBatchCheckpoint} is stored.
+ * A cancelled job stops between chunks and fails with a {@link CancellationException}. A cancelled or failed job
+ * resumes from the last completed chunk when it is submitted again. A checkpoint is ignored, and the file scored from
+ * the start, if the file size or last-modified time no longer match it, or if the predictions now go to a different
+ * table or file.
+ * <p>
+ * The output table must have the {@code FILE_NAME VARCHAR}, {@code ROW_ID BIGINT}, {@code INPUT VARCHAR} and
+ * {@code PREDICTION VARCHAR} columns, with {@code (FILE_NAME, ROW_ID)} as the primary key, so that rows re-scored after
+ * a resume overwrite the previous values. {@code FILE_NAME} holds the absolute normalized path of the input file, so
+ * inputs with the same name in different directories do not overwrite each other.
+ */
+public class FileBatchPredictionJob implements ComputeJob<FileBatchPredictionParameters, Long> {
+    @Override
+    public CompletableFuture<Long> executeAsync(JobExecutionContext context, FileBatchPredictionParameters params) {
+        long scored = 0;
+
+        try {
+            for (String file : params.inputFiles()) {
+                scored += scoreFile(context, params, Path.of(file));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return CompletableFuture.completedFuture(scored);
+    }
+
+    @Override
+    public Marshaller<FileBatchPredictionParameters, byte[]> inputMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+
+    private static long scoreFile(
+            JobExecutionContext context,
+            FileBatchPredictionParameters params,
+            Path file
+    ) throws IOException {
+        long lastModified = FileBatchCheckpoint.lastModifiedOf(file);
+        String output = outputOf(params);
+        Path checkpointDir = FileBatchCheckpoint.directory(params.checkpointDir());
+        FileBatchCheckpoint checkpoint = params.resume() ? FileBatchCheckpoint.read(checkpointDir, file) : null;
+
+        if (checkpoint != null && !checkpoint.matches(file, output)) {
+            System.out.println("Ignoring the checkpoint of " + file + ": the file or the output has changed since it "
+                    + "was written");
+            checkpoint = null;
+        }
+
+        if (checkpoint != null && params.outputFile() != null && !checkpoint.completed()
+                && outputSize(params.outputFile()) < checkpoint.outputLength()) {
+            System.out.println("Ignoring the checkpoint of " + file + ": the output file is shorter than recorded");
+            checkpoint = null;
+        }
+
+        if (checkpoint != null && checkpoint.completed()) {
+            System.out.println("Skipping " + file + ": already scored (" + checkpoint.rows() + " rows)");
+            return 0;
+        }
+
+        long offset = checkpoint == null ? 0 : checkpoint.offset();
+        long rows = checkpoint == null ? 0 : checkpoint.rows();
+        long outputLength = checkpoint == null ? 0 : checkpoint.outputLength();
+
+        if (checkpoint != null) {
+            System.out.printf("Resuming %s from row %d (%.1f%%)\n", file, rows, checkpoint.percent());
+        }
+
+        IgniteMl ml = context.ignite().ml();
+        long scored = 0;
+
+        try (MappedCsvReader reader = new MappedCsvReader(file, offset, params.mapSize());
+                PredictionSink sink = openSink(context.ignite(), params, file, outputLength)) {
+            if (offset == 0 && params.skipHeader()) {
+                reader.nextLine();
+            }
+
+            List<String> inputs = new ArrayList<>(params.chunkSize());
+
+            while (true) {
+                if (context.isCancelled()) {
+                    throw new CancellationException("Scoring of " + file + " cancelled after " + rows + " rows");
+                }
+
+                inputs.clear();
+
+                String line;
+                while (inputs.size() < params.chunkSize() && (line = reader.nextLine()) != null) {
+                    if (!line.isEmpty()) {
+                        inputs.add(column(line, params.inputColumn(), file));
+                    }
+                }
+
+                if (inputs.isEmpty()) {
+                    break;
+                }
+
+                MlBatchJobParameters batch = BatchParameters.of(params.id(), params.version(), params.type(),
+                        params.url(), params.batchSize(), params.properties(), inputs);
+                List<Object> predictions = ml.batchPredict(batch);
+
+                outputLength = sink.write(rows, inputs, predictions);
+                rows += inputs.size();
+                scored += inputs.size();
+
+                checkpoint = new FileBatchCheckpoint(reader.position(), reader.size(), lastModified, output, rows,
+                        outputLength, false);
+                checkpoint.write(checkpointDir, file);
+
+                System.out.printf("  %s: %d rows scored (%.1f%%)\n", file.getFileName(), rows, checkpoint.percent());
+            }
+
+            new FileBatchCheckpoint(reader.position(), reader.size(), lastModified, output, rows, outputLength, true)
+                    .write(checkpointDir, file);
+        }
+
+        return scored;
+    }
+
+    private static String column(String line, int index, Path file) {
+        List<String> fields = MappedCsvReader.parse(line);
+
+        if (index >= fields.size()) {
+            throw new IllegalStateException("Input column " + index + " is missing in " + file + ": " + line);
+        }
+
+        return fields.get(index);
+    }
+
+    /**
+     * Returns the destination of the predictions as recorded in the checkpoint.
+     */
+    private static String outputOf(FileBatchPredictionParameters params) {
+        if (params.outputTable() != null) {
+            return "table:" + params.outputTable();
+        }
+
+        return "file:" + Path.of(params.outputFile()).toAbsolutePath().normalize();
+    }
+
+    private static long outputSize(String outputFile) throws IOException {
+        Path path = Path.of(outputFile);
+
+        return Files.exists(path) ? Files.size(path) : 0;
+    }
+
+    private static PredictionSink openSink(
+            Ignite ignite,
+            FileBatchPredictionParameters params,
+            Path file,
+            long outputLength
+    ) throws IOException {
+        if (params.outputTable() != null) {
+            RecordView<Tuple> view = ignite.tables().table(params.outputTable()).recordView();
+
+            return new TableSink(view, file.toAbsolutePath().normalize().toString());
+        }
+
+        return new FileSink(Path.of(params.outputFile()), outputLength);
+    }
+
+    /**
+     * Destination of the predictions of one input file.
+     */
+    private interface PredictionSink extends AutoCloseable {
+        /**
+         * Writes a scored chunk.
+         *
+         * @return Length of the output after the write, stored in the checkpoint.
+         */
+        long write(long firstRow, List<String> inputs, List<Object> predictions) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * Upserts predictions into a table.
+     */
+    private static class TableSink implements PredictionSink {
+        private final RecordView<Tuple> view;
+        private final String fileName;
+
+        TableSink(RecordView<Tuple> view, String fileName) {
+            this.view = view;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public long write(long firstRow, List<String> inputs, List<Object> predictions) {
+            List<Tuple> tuples = new ArrayList<>(inputs.size());
+
+            for (int i = 0; i < inputs.size(); i++) {
+                tuples.add(Tuple.create()
+                        .set("file_name", fileName)
+                        .set("row_id", firstRow + i)
+                        .set("input", inputs.get(i))
+                        .set("prediction", Predictions.label(predictions.get(i))));
+            }
+
+            view.upsertAll(null, tuples);
+
+            return 0;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Appends predictions to a CSV file, dropping whatever was written after the last checkpoint.
+     */
+    private static class FileSink implements PredictionSink {
+        private final FileChannel channel;
+
+        FileSink(Path output, long length) throws IOException {
+            channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.truncate(length);
+            channel.position(length);
+
+            if (length == 0) {
+                channel.write(StandardCharsets.UTF_8.encode("row_id,input,prediction\n"));
+            }
+        }
+
+        @Override
+        public long write(long firstRow, List<String> inputs, List<Object> predictions) throws IOException {
+            StringBuilder sb = new StringBuilder();
+
+            for (int i = 0; i < inputs.size(); i++) {
+                sb.append(firstRow + i).append(',')
+                        .append(MappedCsvReader.quote(inputs.get(i))).append(',')
+                        .append(MappedCsvReader.quote(Predictions.label(predictions.get(i)))).append('\n');
+            }
+
+            ByteBuffer buf = StandardCharsets.UTF_8.encode(sb.toString());
+            while (buf.hasRemaining()) {
+                channel.write(buf);
+            }
+
+            // The output must be durable before the checkpoint that references its length is written.
+            channel.force(false);
+
+            return channel.position();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.gridgain.ml.model.ModelType;
+
+/**
+ * Arguments of {@link FileBatchPredictionJob}.
+ * <p>
+ * Unlike {@code MlBatchJobParameters}, the inputs are not shipped with the job: only the paths of the CSV files are
+ * sent, and the files are read on the executing node. Paths must be local to that node, e.g. files placed into
+ * a deployment unit directory ({@code $IGNITE_HOME/work/deployment/<unit>/<version>/...}). Input files are only read:
+ * checkpoints are kept in {@link #checkpointDir()}, so the input directory may be read-only.
+ */
+public class FileBatchPredictionParameters implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String id;
+    private final String version;
+    private final ModelType type;
+    private final String url;
+    private final int batchSize;
+    private final Map<String, String> properties;
+    private final List<String> inputFiles;
+    private final int inputColumn;
+    private final boolean skipHeader;
+    private final int chunkSize;
+    private final int mapSize;
+    private final String outputTable;
+    private final String outputFile;
+    private final boolean resume;
+    private final String checkpointDir;
+
+    private FileBatchPredictionParameters(Builder builder) {
+        this.id = builder.id;
+        this.version = builder.version;
+        this.type = builder.type;
+        this.url = builder.url;
+        this.batchSize = builder.batchSize;
+        this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(builder.properties));
+        this.inputFiles = List.copyOf(builder.inputFiles);
+        this.inputColumn = builder.inputColumn;
+        this.skipHeader = builder.skipHeader;
+        this.chunkSize = builder.chunkSize;
+        this.mapSize = builder.mapSize;
+        this.outputTable = builder.outputTable;
+        this.outputFile = builder.outputFile;
+        this.resume = builder.resume;
+        this.checkpointDir = builder.checkpointDir;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public ModelType type() {
+        return type;
+    }
+
+    /** Model location on the executing node, or {@code null} if the model comes from a deployment unit. */
+    public String url() {
+        return url;
+    }
+
+    /** Batch size used by the model for a single forward pass. */
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public Map<String, String> properties() {
+        return properties;
+    }
+
+    public List<String> inputFiles() {
+        return inputFiles;
+    }
+
+    /** Zero-based index of the CSV column holding the model input. */
+    public int inputColumn() {
+        return inputColumn;
+    }
+
+    public boolean skipHeader() {
+        return skipHeader;
+    }
+
+    /** Number of rows scored and written between two checkpoints. */
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /** Size in bytes of the file region mapped into memory at a time. */
+    public int mapSize() {
+        return mapSize;
+    }
+
+    /** Table receiving the predictions, or {@code null} to write them into {@link #outputFile()}. */
+    public String outputTable() {
+        return outputTable;
+    }
+
+    /** CSV file receiving the predictions when {@link #outputTable()} is not set. */
+    public String outputFile() {
+        return outputFile;
+    }
+
+    /** Whether to continue from an existing checkpoint instead of starting over. */
+    public boolean resume() {
+        return resume;
+    }
+
+    /**
+     * Directory on the executing node holding the checkpoints, or {@code null} for the {@code file-batch-checkpoints}
+     * directory of the node work directory.
+     */
+    public String checkpointDir() {
+        return checkpointDir;
+    }
+
+    /**
+     * Builder of {@link FileBatchPredictionParameters}.
+     */
+    public static class Builder {
+        private String id;
+        private String version;
+        private ModelType type;
+        private String url;
+        private int batchSize = 32;
+        private final Map<String, String> properties = new LinkedHashMap<>();
+        private final List<String> inputFiles = new ArrayList<>();
+        private int inputColumn;
+        private boolean skipHeader;
+        private int chunkSize = 1024;
+        private int mapSize = 64 * 1024 * 1024;
+        private String outputTable;
+        private String outputFile;
+        private boolean resume = true;
+        private String checkpointDir;
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder type(ModelType type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder property(String key, String value) {
+            properties.put(key, value);
+            return this;
+        }
+
+        public Builder inputFile(String inputFile) {
+            inputFiles.add(inputFile);
+            return this;
+        }
+
+        public Builder inputColumn(int inputColumn) {
+            this.inputColumn = inputColumn;
+            return this;
+        }
+
+        public Builder skipHeader(boolean skipHeader) {
+            this.skipHeader = skipHeader;
+            return this;
+        }
+
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public Builder mapSize(int mapSize) {
+            this.mapSize = mapSize;
+            return this;
+        }
+
+        public Builder outputTable(String outputTable) {
+            this.outputTable = outputTable;
+            return this;
+        }
+
+        public Builder outputFile(String outputFile) {
+            this.outputFile = outputFile;
+            return this;
+        }
+
+        public Builder resume(boolean resume) {
+            this.resume = resume;
+            return this;
+        }
+
+        public Builder checkpointDir(String checkpointDir) {
+            this.checkpointDir = checkpointDir;
+            return this;
+        }
+
+        public FileBatchPredictionParameters build() {
+            if (id == null || version == null || type == null) {
+                throw new IllegalArgumentException("Model id, version and type must be set");
+            }
+            if (inputFiles.isEmpty()) {
+                throw new IllegalArgumentException("At least one input file must be set");
+            }
+            if ((outputTable == null) == (outputFile == null)) {
+                throw new IllegalArgumentException("Exactly one of output table or output file must be set");
+            }
+            if (outputFile != null && inputFiles.size() > 1) {
+                throw new IllegalArgumentException("Output file can only be used with a single input file");
+            }
+            if (batchSize <= 0 || chunkSize <= 0 || mapSize <= 0) {
+                throw new IllegalArgumentException("Batch size, chunk size and map size must be positive");
+            }
+            if (inputColumn < 0) {
+                throw new IllegalArgumentException("Input column must not be negative");
+            }
+
+            return new FileBatchPredictionParameters(this);
+        }
+    }
+}
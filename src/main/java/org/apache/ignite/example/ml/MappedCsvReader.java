@@ -0,0 +1,159 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads records of a CSV file through a sliding memory-mapped window.
+ * <p>
+ * Only {@code mapSize} bytes of the file are mapped at a time, so arbitrarily large files can be scored without being
+ * loaded into the heap. The reader exposes the byte offset of the next unread record, which is what
+ * {@link FileBatchPredictionJob} stores in its checkpoint. Quoted fields are supported, but a record must not span
+ * several lines.
+ */
+class MappedCsvReader implements Closeable {
+    private final FileChannel channel;
+    private final long size;
+    private final int mapSize;
+
+    private MappedByteBuffer window;
+    private long windowStart;
+    private long position;
+
+    MappedCsvReader(Path file, long offset, int mapSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.mapSize = mapSize;
+        this.position = Math.min(offset, size);
+    }
+
+    /** Byte offset of the next record to read. */
+    long position() {
+        return position;
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Reads the next line, or returns {@code null} at the end of the file.
+     */
+    String nextLine() throws IOException {
+        if (position >= size) {
+            return null;
+        }
+
+        long length = mapSize;
+
+        while (true) {
+            if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+                remap(position, length);
+            }
+
+            int from = (int) (position - windowStart);
+            int limit = window.limit();
+
+            for (int i = from; i < limit; i++) {
+                if (window.get(i) == '\n') {
+                    position = windowStart + i + 1;
+                    return decode(from, i);
+                }
+            }
+
+            if (windowStart + limit >= size) {
+                position = size;
+                return decode(from, limit);
+            }
+
+            // The line crosses the end of the window: remap from its start, growing the window for very long lines.
+            length = Math.max(mapSize, 2L * (limit - from));
+            remap(position, length);
+        }
+    }
+
+    /**
+     * Splits a CSV line into fields.
+     */
+    static List<String> parse(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    /**
+     * Quotes a value for writing into a CSV file.
+     */
+    static String quote(String value) {
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private void remap(long start, long length) throws IOException {
+        long mapped = Math.min(Math.min(length, Integer.MAX_VALUE), size - start);
+
+        window = channel.map(FileChannel.MapMode.READ_ONLY, start, mapped);
+        windowStart = start;
+    }
+
+    private String decode(int from, int to) {
+        if (to > from && window.get(to - 1) == '\r') {
+            to--;
+        }
+
+        byte[] bytes = new byte[to - from];
+        ByteBuffer slice = window.duplicate();
+        slice.position(from);
+        slice.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.compute.JobDescriptor;
+import org.apache.ignite.compute.JobExecutionOptions;
+import org.apache.ignite.compute.JobExecutorType;
+import org.apache.ignite.compute.JobTarget;
+import org.apache.ignite.deployment.DeploymentUnit;
+import org.gridgain.ml.compute.MlSimplePredictionJob;
+import org.gridgain.ml.model.MlSimpleJobParameters;
+import org.gridgain.ml.model.marshalling.MlInputMarshaller;
+import org.gridgain.ml.model.marshalling.MlOutputMarshaller;
+
+/**
+ * Submits many {@link MlSimplePredictionJob}s through one {@link IgniteClient} with a bounded number in flight.
+ * <p>
+ * The client multiplexes concurrent requests over its connections, so a single client can keep the cluster busy as
+ * long as enough requests are outstanding. This helper keeps up to {@code maxInFlight} predictions outstanding.
+ * {@link #predictAsync} never blocks: predictions submitted while the window is full are queued and sent in order as
+ * slots free up, so it is safe to call from completion callbacks. {@link #predict} and {@link #predictAll} wait for
+ * their results, which makes the client cheap to drive from many virtual threads or from a single thread.
+ */
+public class MlBulkPredictionClient {
+    private static final long NODES_REFRESH_INTERVAL_MILLIS = 30_000;
+
+    private final IgniteClient client;
+    private final Semaphore window;
+    private final int priority;
+
+    /** Predictions waiting for a free slot, in submission order. */
+    private final Queue<PendingPrediction<?>> pending = new ConcurrentLinkedQueue<>();
+
+    /** Job descriptors by model id and version. */
+    private final Map<String, JobDescriptor<MlSimpleJobParameters, ?>> descriptors = new ConcurrentHashMap<>();
+
+    private volatile JobTarget target;
+    private volatile long targetTimestamp;
+
+    public MlBulkPredictionClient(IgniteClient client, int maxInFlight) {
+        this(client, maxInFlight, 0);
+    }
+
+    public MlBulkPredictionClient(IgniteClient client, int maxInFlight, int priority) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Max in-flight requests must be positive: " + maxInFlight);
+        }
+
+        this.client = client;
+        this.window = new Semaphore(maxInFlight);
+        this.priority = priority;
+    }
+
+    /**
+     * Submits a prediction without blocking. If {@code maxInFlight} predictions are already outstanding, the prediction
+     * is queued and sent once a slot frees up.
+     *
+     * @return Future completed with the prediction result.
+     */
+    public <R> CompletableFuture<R> predictAsync(MlSimpleJobParameters params) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+
+        pending.add(new PendingPrediction<>(params, result));
+        drain();
+
+        return result;
+    }
+
+    /**
+     * Runs a prediction and waits for its result. Intended to be called from virtual threads.
+     */
+    public <R> R predict(MlSimpleJobParameters params) {
+        return this.<R>predictAsync(params).join();
+    }
+
+    /**
+     * Runs the predictions from the calling thread, keeping up to {@code maxInFlight} of them outstanding.
+     *
+     * @return Results in the order of {@code params}.
+     */
+    public <R> List<R> predictAll(List<MlSimpleJobParameters> params) {
+        List<CompletableFuture<R>> futures = new ArrayList<>(params.size());
+
+        for (MlSimpleJobParameters p : params) {
+            futures.add(predictAsync(p));
+        }
+
+        List<R> results = new ArrayList<>(futures.size());
+
+        for (CompletableFuture<R> future : futures) {
+            results.add(future.join());
+        }
+
+        return results;
+    }
+
+    /**
+     * Returns the number of predictions that can be sent without being queued.
+     */
+    public int availableSlots() {
+        return window.availablePermits();
+    }
+
+    /**
+     * Sends queued predictions while there are free slots. Called after every submission and every completion, so
+     * a queued prediction is never left behind while a slot is free.
+     */
+    private void drain() {
+        while (!pending.isEmpty() && window.tryAcquire()) {
+            PendingPrediction<?> next = pending.poll();
+
+            if (next == null) {
+                window.release();
+            } else {
+                send(next);
+            }
+        }
+    }
+
+    private <R> void send(PendingPrediction<R> prediction) {
+        CompletableFuture<R> future;
+
+        try {
+            future = client.compute().executeAsync(target(), this.<R>descriptor(prediction.params), prediction.params);
+        } catch (RuntimeException e) {
+            // Handled here rather than in a callback, so that the calling drain loop moves on without recursing.
+            window.release();
+            prediction.result.completeExceptionally(e);
+
+            return;
+        }
+
+        future.whenComplete((res, err) -> {
+            window.release();
+            drain();
+
+            if (err != null) {
+                prediction.result.completeExceptionally(err);
+            } else {
+                prediction.result.complete(res);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R> JobDescriptor<MlSimpleJobParameters, R> descriptor(MlSimpleJobParameters params) {
+        String key = params.id() + ':' + params.version();
+
+        return (JobDescriptor<MlSimpleJobParameters, R>) descriptors.computeIfAbsent(key, k -> JobDescriptor.builder(
+                        MlSimplePredictionJob.<MlSimpleJobParameters, R>jobClass())
+                .units(List.of(new DeploymentUnit(params.id(), params.version())))
+                .options(JobExecutionOptions.builder()
+                        .executorType(JobExecutorType.ML_EMBEDDED)
+                        .priority(priority)
+                        .build())
+                .argumentMarshaller(new MlInputMarshaller<>())
+                .resultMarshaller(new MlOutputMarshaller<>())
+                .build());
+    }
+
+    /**
+     * Returns a target covering the cluster nodes. The node list is refreshed periodically rather than fetched for
+     * every request.
+     */
+    private JobTarget target() {
+        long now = System.currentTimeMillis();
+
+        if (target == null || now - targetTimestamp > NODES_REFRESH_INTERVAL_MILLIS) {
+            target = JobTarget.anyNode(client.clusterNodes());
+            targetTimestamp = now;
+        }
+
+        return target;
+    }
+
+    /**
+     * Prediction waiting for a free slot.
+     */
+    private static final class PendingPrediction<R> {
+        private final MlSimpleJobParameters params;
+        private final CompletableFuture<R> result;
+
+        private PendingPrediction(MlSimpleJobParameters params, CompletableFuture<R> result) {
+            this.params = params;
+            this.result = result;
+        }
+    }
+}
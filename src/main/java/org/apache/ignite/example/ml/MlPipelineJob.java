@@ -0,0 +1,91 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.compute.ComputeJob;
+import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.apache.ignite.marshalling.Marshaller;
+import org.gridgain.ml.IgniteMl;
+import org.gridgain.ml.model.MlBatchJobParameters;
+
+/**
+ * Runs several models over the same records on one node.
+ * <p>
+ * Each stage is executed as a single {@link IgniteMl#batchPredict(MlBatchJobParameters)} call over the records it
+ * applies to. Stage outputs are kept in memory on the executing node and handed to later stages directly, so the
+ * records are marshalled once on the way in and once on the way out, however many models they go through.
+ * <p>
+ * The result holds, for every input record, the labels of the stages that ran for it, keyed by stage name. A cancelled
+ * job stops between stages and fails with a {@link CancellationException} rather than returning partial labels.
+ */
+public class MlPipelineJob implements ComputeJob<MlPipelineParameters, List<Map<String, String>>> {
+    @Override
+    public CompletableFuture<List<Map<String, String>>> executeAsync(
+            JobExecutionContext context,
+            MlPipelineParameters params
+    ) {
+        IgniteMl ml = context.ignite().ml();
+        List<String> inputs = params.inputs();
+        List<Map<String, String>> labels = new ArrayList<>(inputs.size());
+
+        for (int i = 0; i < inputs.size(); i++) {
+            labels.add(new LinkedHashMap<>());
+        }
+
+        for (MlPipelineStage stage : params.stages()) {
+            if (context.isCancelled()) {
+                throw new CancellationException("Pipeline cancelled before stage " + stage.name());
+            }
+
+            List<Integer> records = new ArrayList<>();
+            List<String> stageInputs = new ArrayList<>();
+
+            for (int i = 0; i < inputs.size(); i++) {
+                Map<String, String> recordLabels = labels.get(i);
+
+                if (stage.applies(recordLabels)) {
+                    records.add(i);
+                    stageInputs.add(stage.inputFrom() == null ? inputs.get(i) : recordLabels.get(stage.inputFrom()));
+                }
+            }
+
+            if (records.isEmpty()) {
+                continue;
+            }
+
+            MlBatchJobParameters batch = BatchParameters.of(stage.id(), stage.version(), stage.type(), stage.url(),
+                    stage.batchSize(), stage.properties(), stageInputs);
+            List<Object> predictions = ml.batchPredict(batch);
+
+            for (int i = 0; i < records.size(); i++) {
+                labels.get(records.get(i)).put(stage.name(), Predictions.label(predictions.get(i)));
+            }
+        }
+
+        return CompletableFuture.completedFuture(labels);
+    }
+
+    @Override
+    public Marshaller<MlPipelineParameters, byte[]> inputMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+
+    @Override
+    public Marshaller<List<Map<String, String>>, byte[]> resultMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Arguments of {@link MlPipelineJob}: the ordered stages of the pipeline and the records to run through them.
+ * <p>
+ * Stages are executed in the order they were added, so a stage may only refer to the stages added before it.
+ */
+public class MlPipelineParameters implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<MlPipelineStage> stages;
+    private final List<String> inputs;
+
+    private MlPipelineParameters(Builder builder) {
+        this.stages = List.copyOf(builder.stages);
+        this.inputs = List.copyOf(builder.inputs);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public List<MlPipelineStage> stages() {
+        return stages;
+    }
+
+    public List<String> inputs() {
+        return inputs;
+    }
+
+    /**
+     * Builder of {@link MlPipelineParameters}.
+     */
+    public static class Builder {
+        private final List<MlPipelineStage> stages = new ArrayList<>();
+        private final List<String> inputs = new ArrayList<>();
+
+        public Builder stage(MlPipelineStage stage) {
+            stages.add(stage);
+            return this;
+        }
+
+        public Builder input(String input) {
+            inputs.add(input);
+            return this;
+        }
+
+        public Builder inputs(List<String> inputs) {
+            this.inputs.addAll(inputs);
+            return this;
+        }
+
+        public MlPipelineParameters build() {
+            if (stages.isEmpty()) {
+                throw new IllegalArgumentException("At least one stage must be set");
+            }
+
+            Set<String> names = new HashSet<>();
+
+            for (MlPipelineStage stage : stages) {
+                checkReference(stage, stage.inputFrom(), names);
+                checkReference(stage, stage.conditionStage(), names);
+
+                if (!names.add(stage.name())) {
+                    throw new IllegalArgumentException("Duplicate stage name: " + stage.name());
+                }
+            }
+
+            return new MlPipelineParameters(this);
+        }
+
+        private static void checkReference(MlPipelineStage stage, String reference, Set<String> previous) {
+            if (reference != null && !previous.contains(reference)) {
+                throw new IllegalArgumentException("Stage '" + stage.name() + "' refers to '" + reference
+                        + "', which is not defined before it");
+            }
+        }
+    }
+}
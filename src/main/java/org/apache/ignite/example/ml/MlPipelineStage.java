@@ -0,0 +1,199 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.gridgain.ml.model.ModelType;
+
+/**
+ * Single model invocation within an {@link MlPipelineParameters pipeline}.
+ * <p>
+ * A stage reads either the original pipeline input or the label produced by an earlier stage, and can be restricted to
+ * the records for which an earlier stage produced (or did not produce) one of the given labels. Two stages with
+ * opposite conditions on the same stage form a branch.
+ */
+public class MlPipelineStage implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+    private final String id;
+    private final String version;
+    private final ModelType type;
+    private final String url;
+    private final int batchSize;
+    private final Map<String, String> properties;
+    private final String inputFrom;
+    private final String conditionStage;
+    private final Set<String> conditionLabels;
+    private final boolean conditionNegated;
+
+    private MlPipelineStage(Builder builder) {
+        this.name = builder.name;
+        this.id = builder.id;
+        this.version = builder.version;
+        this.type = builder.type;
+        this.url = builder.url;
+        this.batchSize = builder.batchSize;
+        this.properties = Collections.unmodifiableMap(new LinkedHashMap<>(builder.properties));
+        this.inputFrom = builder.inputFrom;
+        this.conditionStage = builder.conditionStage;
+        this.conditionLabels = builder.conditionLabels;
+        this.conditionNegated = builder.conditionNegated;
+    }
+
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /** Stage name, used as the key of its output and in references from later stages. */
+    public String name() {
+        return name;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public String version() {
+        return version;
+    }
+
+    public ModelType type() {
+        return type;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public Map<String, String> properties() {
+        return properties;
+    }
+
+    /** Stage whose label is used as the input, or {@code null} to use the pipeline input. */
+    public String inputFrom() {
+        return inputFrom;
+    }
+
+    /** Stage the condition refers to, or {@code null} if the stage runs for every record. */
+    public String conditionStage() {
+        return conditionStage;
+    }
+
+    /**
+     * Checks whether the stage applies to a record given the labels produced for it so far.
+     */
+    boolean applies(Map<String, String> labels) {
+        if (inputFrom != null && !labels.containsKey(inputFrom)) {
+            return false;
+        }
+
+        if (conditionStage == null) {
+            return true;
+        }
+
+        String label = labels.get(conditionStage);
+
+        // A record skipped by the referenced stage satisfies neither the condition nor its negation.
+        return label != null && conditionLabels.contains(label) != conditionNegated;
+    }
+
+    /**
+     * Builder of {@link MlPipelineStage}.
+     */
+    public static class Builder {
+        private final String name;
+        private String id;
+        private String version;
+        private ModelType type;
+        private String url;
+        private int batchSize = 32;
+        private final Map<String, String> properties = new LinkedHashMap<>();
+        private String inputFrom;
+        private String conditionStage;
+        private Set<String> conditionLabels = Set.of();
+        private boolean conditionNegated;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        public Builder id(String id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder version(String version) {
+            this.version = version;
+            return this;
+        }
+
+        public Builder type(ModelType type) {
+            this.type = type;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder property(String key, String value) {
+            properties.put(key, value);
+            return this;
+        }
+
+        public Builder inputFrom(String stage) {
+            this.inputFrom = stage;
+            return this;
+        }
+
+        /** Runs the stage only for records for which {@code stage} produced one of {@code labels}. */
+        public Builder when(String stage, String... labels) {
+            return condition(stage, labels, false);
+        }
+
+        /** Runs the stage only for records for which {@code stage} produced none of {@code labels}. */
+        public Builder unless(String stage, String... labels) {
+            return condition(stage, labels, true);
+        }
+
+        private Builder condition(String stage, String[] labels, boolean negated) {
+            this.conditionStage = stage;
+            this.conditionLabels = Set.of(labels);
+            this.conditionNegated = negated;
+            return this;
+        }
+
+        public MlPipelineStage build() {
+            if (name == null || id == null || version == null || type == null) {
+                throw new IllegalArgumentException("Stage name, model id, version and type must be set");
+            }
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("Batch size must be positive");
+            }
+
+            return new MlPipelineStage(this);
+        }
+    }
+}
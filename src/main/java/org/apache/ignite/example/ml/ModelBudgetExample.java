@@ -0,0 +1,215 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.modality.Classifications;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.ignite.IgniteServer;
+import org.apache.ignite.InitParameters;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.compute.BroadcastJobTarget;
+import org.apache.ignite.compute.JobDescriptor;
+import org.apache.ignite.compute.JobTarget;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+
+/**
+ * Model memory budget example demonstrating:
+ * <p>
+ * 1. Serving more tenant models than fit into the node memory budget
+ * 2. Least-recently-used models being unloaded under pressure and reloaded on demand
+ * 3. Collecting the model residency stats of every node
+ * <p>
+ * All tenant models share the files of the sentiment model, and the budget is set to fit a single model, so that
+ * every switch between tenants evicts the previous one.
+ * <p>
+ * The budget only covers models loaded by {@link BudgetedPredictionJob}; models served by {@code IgniteMl} or the
+ * {@code ML_EMBEDDED} prediction jobs are not limited by it.
+ * <p>
+ * The jobs are submitted without deployment units: {@link ModelMemoryBudget} must be loaded from the node classpath,
+ * which for the embedded node of this example is the classpath of this process.
+ */
+public class ModelBudgetExample {
+
+    private static final String MODEL_VERSION = "1.0.0";
+    //Path to your model files within deployment unit
+    private static final String LOCAL_MODEL_PATH = System.getenv("IGNITE_HOME") + "/work/deployment/sentiment-model/1.0.0";
+    private static final String CONFIG_FILE_PATH = System.getenv("IGNITE_HOME") + "/etc/gridgain-config.conf";
+    private static final String LICENSE_FILE_PATH = System.getenv("IGNITE_HOME") + "/license/license.conf";
+    private static final String WORK_FOLDER_PATH = "work";
+
+    private IgniteServer server;
+    private IgniteClient client;
+
+    public static void main(String[] args) {
+        ModelBudgetExample example = new ModelBudgetExample();
+
+        try {
+            example.setupBudget();
+            example.setupEmbeddedServer();
+            example.setupClient();
+
+            example.executeTenantPredictions();
+            example.printResidencyStats();
+
+            System.out.println("Model budget example completed successfully!");
+
+        } catch (Throwable e) {
+            System.err.println("Example failed: " + e.getMessage());
+            throw new RuntimeException(e);
+        } finally {
+            example.cleanup();
+        }
+    }
+
+    /**
+     * Sets the budget of the embedded node to one and a half times the size of the model files.
+     * On a standalone node, pass {@code -Dml.model.memory.budget=<bytes>} to the JVM instead.
+     */
+    private void setupBudget() throws IOException {
+        long modelSize;
+
+        try (Stream<Path> files = Files.walk(Paths.get(LOCAL_MODEL_PATH))) {
+            modelSize = files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+        }
+
+        System.setProperty(ModelMemoryBudget.BUDGET_PROPERTY, Long.toString(modelSize * 3 / 2));
+
+        System.out.println("Model memory budget: " + (modelSize * 3 / 2 >> 20) + " MB");
+    }
+
+    private void setupEmbeddedServer() throws IOException {
+        System.out.println("Setting up GridGain embedded server...");
+
+        Path configPath = Paths.get(CONFIG_FILE_PATH);
+        Path licensePath = Paths.get(LICENSE_FILE_PATH);
+        Path workDir = Paths.get(WORK_FOLDER_PATH);
+
+        if (!Files.exists(configPath)) {
+            throw new RuntimeException("Config file not found at " + configPath);
+        }
+        if (!Files.exists(licensePath)) {
+            throw new RuntimeException("License file not found at " + licensePath);
+        }
+
+        server = IgniteServer.start("defaultNode", configPath, workDir);
+
+        String licenseStr = Files.readString(licensePath);
+        InitParameters initParameters = InitParameters.builder()
+                .metaStorageNodeNames("defaultNode")
+                .clusterName("cluster")
+                .clusterConfiguration(licenseStr)
+                .build();
+
+        server.initCluster(initParameters);
+
+        System.out.println("Embedded server initialized");
+    }
+
+    private void setupClient() {
+        System.out.println("Setting up client connection...");
+
+        client = IgniteClient.builder()
+                .addresses("127.0.0.1:10800")
+                .build();
+
+        System.out.println("Client connection established");
+    }
+
+    /**
+     * Sends requests for the tenant models in turn. Switching to another tenant unloads the least recently used model,
+     * while repeated requests for the same tenant are served by the resident model.
+     */
+    private void executeTenantPredictions() {
+        System.out.println("\n=== Tenant Model Predictions ===");
+
+        JobDescriptor<BudgetedPredictionParameters, List<String>> descriptor = JobDescriptor.builder(
+                        BudgetedPredictionJob.class)
+                .argumentMarshaller(ByteArrayMarshaller.create())
+                .resultMarshaller(ByteArrayMarshaller.create())
+                .build();
+
+        List<String> requests = List.of(
+                "tenant-a-sentiment", "tenant-a-sentiment",
+                "tenant-b-sentiment",
+                "tenant-c-sentiment",
+                "tenant-a-sentiment"
+        );
+
+        for (String modelId : requests) {
+            BudgetedPredictionParameters jobParams = BudgetedPredictionParameters.builder()
+                    .id(modelId)
+                    .version(MODEL_VERSION)
+                    .modelDir(LOCAL_MODEL_PATH)
+                    .outputClass(Classifications.class.getName())
+                    .translatorFactory("ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                    .input("This movie is very good")
+                    .input("This book is not good")
+                    .build();
+
+            long startTime = System.currentTimeMillis();
+
+            List<String> labels = client.compute().execute(
+                    JobTarget.anyNode(client.clusterNodes()),
+                    descriptor,
+                    jobParams
+            );
+
+            long duration = System.currentTimeMillis() - startTime;
+
+            System.out.println("  " + modelId + " → " + labels + " (" + duration + "ms)");
+        }
+
+        System.out.println("Tenant model predictions complete!");
+    }
+
+    private void printResidencyStats() {
+        System.out.println("\n=== Model Residency Stats ===");
+
+        JobDescriptor<Void, ModelResidencyStats> descriptor = JobDescriptor.builder(ModelResidencyStatsJob.class)
+                .resultMarshaller(ByteArrayMarshaller.create())
+                .build();
+
+        Collection<ModelResidencyStats> stats = client.compute().execute(
+                BroadcastJobTarget.nodes(client.clusterNodes()),
+                descriptor,
+                null
+        );
+
+        for (ModelResidencyStats nodeStats : stats) {
+            System.out.println("  " + nodeStats);
+            nodeStats.models().forEach(model -> System.out.println("   • " + model));
+        }
+    }
+
+    private void cleanup() {
+        try {
+            System.out.println("Cleanup started");
+
+            if (client != null) {
+                client.close();
+                System.out.println("  Client connection closed");
+            }
+
+            if (server != null) {
+                server.shutdown();
+                System.out.println("  Embedded server shutdown complete");
+            }
+            System.out.println("Cleanup completed!");
+        } catch (Exception e) {
+            System.err.println("Cleanup error: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,406 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.MalformedModelException;
+import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.repository.zoo.ZooModel;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.ignite.Ignite;
+
+/**
+ * Per-node budget for the memory held by models loaded through it, such as those of {@link BudgetedPredictionJob}.
+ * <p>
+ * The budget does not limit models loaded by {@code IgniteMl} or by the {@code ML_EMBEDDED} prediction jobs
+ * ({@code MlSimplePredictionJob}, {@code MlBatchPredictionJob}, {@code MlSqlPredictionJob}): those live in the ML
+ * model cache, which is neither counted nor evicted here. Serving the same model through both paths loads its weights
+ * twice.
+ * <p>
+ * Models are kept in least-recently-used order. Once the estimated footprint of the resident models exceeds the budget,
+ * the least recently used models that are not serving a request are closed, which releases their native memory. An
+ * evicted model is loaded again from its local files the next time it is requested. Evicted models are closed outside
+ * of the budget lock, so freeing their native memory does not stall other requests.
+ * <p>
+ * Before a model is loaded, the size of its files is reserved and idle models are evicted to make room for it. If the
+ * models serving requests and the loads in progress leave no room, the load waits until enough memory is released, so
+ * concurrent loads of different models cannot pile up past the budget. A model larger than the whole budget is loaded
+ * once nothing else is resident. A request must therefore close its lease before acquiring another model.
+ * <p>
+ * The footprint of a model is estimated as the size of its files after loading, which approximates the native memory
+ * the engine holds for its weights. Heap used by the model is not counted: it cannot be told apart from allocations of
+ * other jobs running at the same time. The budget of the node-wide instance is taken from the
+ * {@value #BUDGET_PROPERTY} system property, in bytes.
+ * <p>
+ * The node-wide instance lives in a static field, so this class must be loaded by the node class loader, i.e. be on
+ * the node classpath, and the jobs using it must be submitted without a deployment unit that contains it. A copy loaded
+ * from a deployment unit would live only as long as that unit's class loader: jobs with other units, or submitted after
+ * a redeploy, would get a fresh budget while the models of the old one are never closed. {@link #instance()} therefore
+ * refuses to run from a deployment unit class loader.
+ */
+public final class ModelMemoryBudget {
+    /** System property holding the budget of the node-wide instance, in bytes. */
+    public static final String BUDGET_PROPERTY = "ml.model.memory.budget";
+
+    private static final long DEFAULT_BUDGET = 2L * 1024 * 1024 * 1024;
+
+    private static volatile ModelMemoryBudget instance;
+
+    private final long budget;
+
+    /** Models in access order, least recently used first. */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Footprint of the loaded models, the reservations of models being loaded and the evicted models being closed. */
+    private long resident;
+
+    /** Footprint of the evicted models that are being closed. */
+    private long closing;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ModelMemoryBudget(long budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budget);
+        }
+
+        this.budget = budget;
+    }
+
+    /**
+     * Returns the budget shared by all jobs running on this node.
+     *
+     * @throws IllegalStateException If this class was loaded from a deployment unit instead of the node classpath.
+     */
+    public static ModelMemoryBudget instance() {
+        ModelMemoryBudget result = instance;
+
+        if (result == null) {
+            if (!loadedByNode()) {
+                throw new IllegalStateException("ModelMemoryBudget must be on the node classpath, but was loaded by "
+                        + ModelMemoryBudget.class.getClassLoader() + ". Submit the jobs using it without a deployment "
+                        + "unit that contains it.");
+            }
+
+            synchronized (ModelMemoryBudget.class) {
+                result = instance;
+
+                if (result == null) {
+                    result = new ModelMemoryBudget(Long.getLong(BUDGET_PROPERTY, DEFAULT_BUDGET));
+                    instance = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that this class was loaded by the class loader of the node or one of its parents, which live as long as
+     * the node, rather than by a deployment unit class loader.
+     */
+    private static boolean loadedByNode() {
+        ClassLoader budgetLoader = ModelMemoryBudget.class.getClassLoader();
+
+        for (ClassLoader loader = Ignite.class.getClassLoader(); ; loader = loader.getParent()) {
+            if (loader == budgetLoader) {
+                return true;
+            }
+
+            if (loader == null) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the model with the given key, loading it if it is not resident.
+     * The model cannot be evicted until the returned lease is closed. Waits if the budget has no room for the model
+     * until requests using other models release enough of it.
+     *
+     * @param key Model key, e.g. {@code id:version}.
+     * @param modelPath Local directory or file of the model, used to estimate its footprint.
+     * @param loader Loads the model if it is not resident.
+     */
+    public Lease acquire(String key, Path modelPath, ModelLoader loader) throws IOException, ModelNotFoundException,
+            MalformedModelException {
+        Entry entry;
+
+        synchronized (this) {
+            entry = entries.get(key);
+
+            if (entry == null) {
+                entry = new Entry(key);
+                entries.put(key, entry);
+                misses++;
+            } else {
+                hits++;
+            }
+
+            entry.refs++;
+            entry.lastAccess = System.currentTimeMillis();
+        }
+
+        try {
+            entry.load(modelPath, loader);
+        } catch (IOException | ModelNotFoundException | MalformedModelException | RuntimeException e) {
+            synchronized (this) {
+                entry.refs--;
+
+                if (entry.model == null && entry.refs == 0) {
+                    entries.remove(key, entry);
+                }
+            }
+
+            throw e;
+        }
+
+        return new Lease(entry);
+    }
+
+    /**
+     * Returns a snapshot of the resident models and the cache counters.
+     */
+    public synchronized ModelResidencyStats stats() {
+        List<ModelResidencyStats.ModelStats> models = new ArrayList<>(entries.size());
+
+        for (Entry entry : entries.values()) {
+            if (entry.model != null) {
+                models.add(new ModelResidencyStats.ModelStats(
+                        entry.key, entry.footprint, entry.lastAccess, entry.refs));
+            }
+        }
+
+        return new ModelResidencyStats(budget, resident, hits, misses, evictions, models);
+    }
+
+    /**
+     * Reserves memory for a model about to be loaded, evicting idle models to make room for it and waiting while the
+     * rest of the budget is held by models in use or being loaded.
+     */
+    private void reserve(long bytes) throws InterruptedIOException {
+        while (true) {
+            List<Entry> evicted;
+
+            synchronized (this) {
+                evicted = evict(bytes);
+
+                if (evicted.isEmpty()) {
+                    if (resident + bytes <= budget || resident == 0) {
+                        resident += bytes;
+
+                        return;
+                    }
+
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+
+                        throw new InterruptedIOException("Interrupted while waiting for model memory");
+                    }
+
+                    continue;
+                }
+            }
+
+            close(evicted);
+        }
+    }
+
+    private synchronized void cancelReservation(long bytes) {
+        resident -= bytes;
+        notifyAll();
+    }
+
+    /**
+     * Replaces the reservation of a loaded model with its measured footprint.
+     */
+    private void loaded(Entry entry, long reservation, long footprint) {
+        List<Entry> evicted;
+
+        synchronized (this) {
+            entry.footprint = footprint;
+            resident += footprint - reservation;
+            evicted = evict(0);
+            notifyAll();
+        }
+
+        close(evicted);
+    }
+
+    private void release(Entry entry) {
+        List<Entry> evicted;
+
+        synchronized (this) {
+            entry.refs--;
+            evicted = evict(0);
+            notifyAll();
+        }
+
+        close(evicted);
+    }
+
+    /**
+     * Removes idle models, least recently used first, until the resident footprint leaves room for {@code incoming}
+     * bytes. Models serving a request or being loaded are skipped. The removed models still count as resident until
+     * {@link #close(List)} has closed them.
+     *
+     * @return Removed models, to be closed by the caller outside of the budget lock.
+     */
+    private List<Entry> evict(long incoming) {
+        List<Entry> evicted = new ArrayList<>();
+        Iterator<Entry> it = entries.values().iterator();
+
+        while (resident - closing + incoming > budget && it.hasNext()) {
+            Entry entry = it.next();
+
+            if (entry.refs > 0 || entry.model == null) {
+                continue;
+            }
+
+            it.remove();
+            closing += entry.footprint;
+            evictions++;
+            evicted.add(entry);
+        }
+
+        return evicted;
+    }
+
+    /**
+     * Closes evicted models, which releases their native memory, and wakes up the loads waiting for it.
+     */
+    private void close(List<Entry> evicted) {
+        for (Entry entry : evicted) {
+            entry.model.close();
+            entry.model = null;
+
+            long resident;
+
+            synchronized (this) {
+                this.resident -= entry.footprint;
+                closing -= entry.footprint;
+                resident = this.resident;
+                notifyAll();
+            }
+
+            System.out.printf("Evicted model %s (%d MB), resident %d/%d MB\n",
+                    entry.key, entry.footprint >> 20, resident >> 20, budget >> 20);
+        }
+    }
+
+    private static long sizeOf(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            return files.filter(Files::isRegularFile).mapToLong(file -> {
+                try {
+                    return Files.size(file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).sum();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Loads a model that is not resident.
+     */
+    @FunctionalInterface
+    public interface ModelLoader {
+        ZooModel<?, ?> load() throws IOException, ModelNotFoundException, MalformedModelException;
+    }
+
+    /**
+     * Model in use by a request. Closing the lease makes the model eligible for eviction again.
+     */
+    public final class Lease implements AutoCloseable {
+        private final Entry entry;
+        private boolean closed;
+
+        private Lease(Entry entry) {
+            this.entry = entry;
+        }
+
+        @SuppressWarnings("unchecked")
+        public <I, O> ZooModel<I, O> model() {
+            return (ZooModel<I, O>) entry.model;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(entry);
+            }
+        }
+    }
+
+    /**
+     * Cached model. {@code footprint}, {@code refs} and {@code lastAccess} are guarded by the budget, loading by the
+     * entry itself.
+     */
+    private final class Entry {
+        private final String key;
+        private volatile ZooModel<?, ?> model;
+        private long footprint;
+        private long lastAccess;
+        private int refs;
+
+        private Entry(String key) {
+            this.key = key;
+        }
+
+        private synchronized void load(Path modelPath, ModelLoader loader) throws IOException, ModelNotFoundException,
+                MalformedModelException {
+            if (model != null) {
+                return;
+            }
+
+            long fileSize = sizeOf(modelPath);
+
+            reserve(fileSize);
+
+            ZooModel<?, ?> loadedModel = null;
+            long loadedSize;
+
+            try {
+                loadedModel = loader.load();
+
+                // Loading may unpack or download artifacts into the model directory.
+                loadedSize = sizeOf(modelPath);
+            } catch (IOException | ModelNotFoundException | MalformedModelException | RuntimeException e) {
+                if (loadedModel != null) {
+                    loadedModel.close();
+                }
+
+                cancelReservation(fileSize);
+
+                throw e;
+            }
+
+            model = loadedModel;
+            loaded(this, fileSize, loadedSize);
+
+            System.out.printf("Loaded model %s (%d MB)\n", key, footprint >> 20);
+        }
+    }
+}
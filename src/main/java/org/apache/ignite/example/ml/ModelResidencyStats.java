@@ -0,0 +1,119 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Snapshot of the models resident on a node, as reported by {@link ModelMemoryBudget#stats()}.
+ */
+public class ModelResidencyStats implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long budgetBytes;
+    private final long residentBytes;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final List<ModelStats> models;
+
+    ModelResidencyStats(
+            long budgetBytes,
+            long residentBytes,
+            long hits,
+            long misses,
+            long evictions,
+            List<ModelStats> models
+    ) {
+        this.budgetBytes = budgetBytes;
+        this.residentBytes = residentBytes;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.models = List.copyOf(models);
+    }
+
+    public long budgetBytes() {
+        return budgetBytes;
+    }
+
+    /** Estimated memory of the resident models, including the reservations of models being loaded. */
+    public long residentBytes() {
+        return residentBytes;
+    }
+
+    /** Number of requests served by an already resident model. */
+    public long hits() {
+        return hits;
+    }
+
+    /** Number of requests that had to load the model. */
+    public long misses() {
+        return misses;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    /** Resident models, least recently used first. */
+    public List<ModelStats> models() {
+        return models;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("resident %d/%d MB, %d models, hits %d, misses %d, evictions %d",
+                residentBytes >> 20, budgetBytes >> 20, models.size(), hits, misses, evictions);
+    }
+
+    /**
+     * Residency of a single model.
+     */
+    public static class ModelStats implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String key;
+        private final long footprintBytes;
+        private final long lastAccessMillis;
+        private final int activeRequests;
+
+        ModelStats(String key, long footprintBytes, long lastAccessMillis, int activeRequests) {
+            this.key = key;
+            this.footprintBytes = footprintBytes;
+            this.lastAccessMillis = lastAccessMillis;
+            this.activeRequests = activeRequests;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        /** Size of the model files, an estimate of the native memory held by the model. */
+        public long footprintBytes() {
+            return footprintBytes;
+        }
+
+        public long lastAccessMillis() {
+            return lastAccessMillis;
+        }
+
+        /** Number of requests currently using the model; a model in use is never evicted. */
+        public int activeRequests() {
+            return activeRequests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%d MB, %d active)", key, footprintBytes >> 20, activeRequests);
+        }
+    }
+}
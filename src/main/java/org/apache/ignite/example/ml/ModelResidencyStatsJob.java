@@ -0,0 +1,31 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.compute.ComputeJob;
+import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.apache.ignite.marshalling.Marshaller;
+
+/**
+ * Returns the {@link ModelResidencyStats} of the node it runs on. Broadcast it to collect the stats of the cluster.
+ */
+public class ModelResidencyStatsJob implements ComputeJob<Void, ModelResidencyStats> {
+    @Override
+    public CompletableFuture<ModelResidencyStats> executeAsync(JobExecutionContext context, Void arg) {
+        return CompletableFuture.completedFuture(ModelMemoryBudget.instance().stats());
+    }
+
+    @Override
+    public Marshaller<ModelResidencyStats, byte[]> resultMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+}
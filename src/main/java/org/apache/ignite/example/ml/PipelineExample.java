@@ -0,0 +1,214 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.modality.Classifications;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.ignite.IgniteServer;
+import org.apache.ignite.InitParameters;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.compute.JobDescriptor;
+import org.apache.ignite.compute.JobExecution;
+import org.apache.ignite.compute.JobTarget;
+import org.apache.ignite.deployment.DeploymentUnit;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.gridgain.ml.model.ModelType;
+
+/**
+ * Multi-model pipeline example demonstrating:
+ * <p>
+ * 1. Chaining language detection, sentiment analysis and topic classification in one compute job
+ * 2. Conditional stages: English-only models are skipped for records detected as another language
+ * <p>
+ * The language and topic model ids below are placeholders: deploy your own text classification models under these
+ * ids, and adjust {@link #ENGLISH} to the label your language model produces for English.
+ */
+public class PipelineExample {
+
+    private static final String LANGUAGE_MODEL_ID = "language-model";
+    private static final String SENTIMENT_MODEL_ID = "sentiment-model";
+    private static final String TOPIC_MODEL_ID = "topic-model";
+    private static final String MODEL_VERSION = "1.0.0";
+    private static final String JOB_UNIT = "ml-examples";
+    private static final String JOB_UNIT_VERSION = "1.0.0";
+    private static final String ENGLISH = "en";
+    private static final String TEXT_CLASSIFICATION_TRANSLATOR_FACTORY =
+            "ai.djl.huggingface.translator.TextClassificationTranslatorFactory";
+    private static final String CONFIG_FILE_PATH = System.getenv("IGNITE_HOME") + "/etc/gridgain-config.conf";
+    private static final String LICENSE_FILE_PATH = System.getenv("IGNITE_HOME") + "/license/license.conf";
+    private static final String WORK_FOLDER_PATH = "work";
+
+    private IgniteServer server;
+    private IgniteClient client;
+
+    public static void main(String[] args) {
+        PipelineExample example = new PipelineExample();
+
+        try {
+            example.setupEmbeddedServer();
+            example.setupClient();
+
+            example.executePipeline();
+
+            System.out.println("Pipeline example completed successfully!");
+
+        } catch (Throwable e) {
+            System.err.println("Example failed: " + e.getMessage());
+            throw new RuntimeException(e);
+        } finally {
+            example.cleanup();
+        }
+    }
+
+    private void setupEmbeddedServer() throws IOException {
+        System.out.println("Setting up GridGain embedded server...");
+
+        Path configPath = Paths.get(CONFIG_FILE_PATH);
+        Path licensePath = Paths.get(LICENSE_FILE_PATH);
+        Path workDir = Paths.get(WORK_FOLDER_PATH);
+
+        if (!Files.exists(configPath)) {
+            throw new RuntimeException("Config file not found at " + configPath);
+        }
+        if (!Files.exists(licensePath)) {
+            throw new RuntimeException("License file not found at " + licensePath);
+        }
+
+        server = IgniteServer.start("defaultNode", configPath, workDir);
+
+        String licenseStr = Files.readString(licensePath);
+        InitParameters initParameters = InitParameters.builder()
+                .metaStorageNodeNames("defaultNode")
+                .clusterName("cluster")
+                .clusterConfiguration(licenseStr)
+                .build();
+
+        server.initCluster(initParameters);
+
+        System.out.println("Embedded server initialized");
+    }
+
+    private void setupClient() {
+        System.out.println("Setting up client connection...");
+
+        client = IgniteClient.builder()
+                .addresses("127.0.0.1:10800")
+                .build();
+
+        System.out.println("Client connection established");
+    }
+
+    /**
+     * Runs language detection → sentiment → topic classification as a single job.
+     */
+    private void executePipeline() throws Exception {
+        System.out.println("\n=== ML Pipeline ===");
+
+        List<String> inputs = Arrays.asList(
+                "This smartphone is amazing! Great battery life.",
+                "Ce livre est ennuyeux, je ne l'ai pas fini.",
+                "Poor quality headphones, broke after one week.",
+                "Dieses Spiel macht sehr viel Spaß.",
+                "Fast laptop, perfect for work and gaming."
+        );
+
+        MlPipelineParameters jobParams = MlPipelineParameters.builder()
+                .stage(MlPipelineStage.builder("language")
+                        .id(LANGUAGE_MODEL_ID)
+                        .version(MODEL_VERSION)
+                        .type(ModelType.PYTORCH)
+                        .property("input_class", String.class.getName())
+                        .property("output_class", Classifications.class.getName())
+                        .property("application", "ai.djl.Application$NLP$TEXT_CLASSIFICATION")
+                        .property("translatorFactory", TEXT_CLASSIFICATION_TRANSLATOR_FACTORY)
+                        .build())
+                .stage(MlPipelineStage.builder("sentiment")
+                        .id(SENTIMENT_MODEL_ID)
+                        .version(MODEL_VERSION)
+                        .type(ModelType.PYTORCH)
+                        .property("input_class", String.class.getName())
+                        .property("output_class", Classifications.class.getName())
+                        .property("application", "ai.djl.Application$NLP$SENTIMENT_ANALYSIS")
+                        .property("translatorFactory",
+                                "ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                        .when("language", ENGLISH)
+                        .build())
+                .stage(MlPipelineStage.builder("topic")
+                        .id(TOPIC_MODEL_ID)
+                        .version(MODEL_VERSION)
+                        .type(ModelType.PYTORCH)
+                        .property("input_class", String.class.getName())
+                        .property("output_class", Classifications.class.getName())
+                        .property("application", "ai.djl.Application$NLP$TEXT_CLASSIFICATION")
+                        .property("translatorFactory", TEXT_CLASSIFICATION_TRANSLATOR_FACTORY)
+                        .when("language", ENGLISH)
+                        .build())
+                .inputs(inputs)
+                .build();
+
+        JobDescriptor<MlPipelineParameters, List<Map<String, String>>> descriptor = JobDescriptor.builder(
+                        MlPipelineJob.class)
+                .units(List.of(
+                        new DeploymentUnit(JOB_UNIT, JOB_UNIT_VERSION),
+                        new DeploymentUnit(LANGUAGE_MODEL_ID, MODEL_VERSION),
+                        new DeploymentUnit(SENTIMENT_MODEL_ID, MODEL_VERSION),
+                        new DeploymentUnit(TOPIC_MODEL_ID, MODEL_VERSION)))
+                .argumentMarshaller(ByteArrayMarshaller.create())
+                .resultMarshaller(ByteArrayMarshaller.create())
+                .build();
+
+        System.out.println("  Pipeline: language → sentiment (en only) → topic (en only)");
+        long startTime = System.currentTimeMillis();
+
+        // One submission runs all three models on the same node
+        JobExecution<List<Map<String, String>>> execution = client.compute().submitAsync(
+                JobTarget.anyNode(client.clusterNodes()),
+                descriptor,
+                jobParams
+        ).get();
+
+        List<Map<String, String>> results = execution.resultAsync().get();
+        long duration = System.currentTimeMillis() - startTime;
+
+        System.out.println("  Pipeline Results (" + results.size() + " items):");
+        for (int i = 0; i < results.size(); i++) {
+            System.out.printf("   %d. \"%s\" → %s\n", i + 1, inputs.get(i), results.get(i));
+        }
+
+        System.out.println("   Total processing time: " + duration + "ms");
+        System.out.println("   Average per item: " + (duration / inputs.size()) + "ms");
+        System.out.println("ML pipeline complete!");
+    }
+
+    private void cleanup() {
+        try {
+            System.out.println("Cleanup started");
+
+            if (client != null) {
+                client.close();
+                System.out.println("  Client connection closed");
+            }
+
+            if (server != null) {
+                server.shutdown();
+                System.out.println("  Embedded server shutdown complete");
+            }
+            System.out.println("Cleanup completed!");
+        } catch (Exception e) {
+            System.err.println("Cleanup error: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml;
+
+import ai.djl.modality.Classifications;
+
+/**
+ * Helpers for turning model outputs into values that can be stored or passed on.
+ */
+final class Predictions {
+    private Predictions() {
+    }
+
+    /**
+     * Returns the label of a prediction: the best class for classifications, the string form of anything else.
+     */
+    static String label(Object prediction) {
+        if (prediction instanceof Classifications) {
+            return ((Classifications) prediction).best().getClassName();
+        }
+
+        return String.valueOf(prediction);
+    }
+}
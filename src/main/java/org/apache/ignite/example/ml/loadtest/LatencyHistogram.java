@@ -0,0 +1,121 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent latency histogram with HDR-style log-linear buckets.
+ * <p>
+ * Values below {@value #SUB_BUCKETS} are counted exactly, and every power-of-two range above is split into
+ * {@code SUB_BUCKETS / 2} linear sub-buckets. That keeps the relative error of any recorded value below 2% over the
+ * whole {@code long} range with a fixed, small footprint. Values are recorded in microseconds.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 - SUB_BUCKET_BITS + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS * SUB_BUCKETS);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1000);
+
+        counts.incrementAndGet(indexOf(micros));
+        total.incrementAndGet();
+        sum.addAndGet(micros);
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public long maxMicros() {
+        return max.get();
+    }
+
+    public double meanMicros() {
+        long n = total.get();
+
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Returns the value at the given percentile, as the highest value equivalent to the bucket it falls into.
+     *
+     * @param percentile Percentile in the {@code [0, 100]} range.
+     */
+    public long percentileMicros(double percentile) {
+        long n = total.get();
+
+        if (n == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * n));
+        long seen = 0;
+
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+
+            if (seen >= rank) {
+                return Math.min(highestEquivalent(i), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    /**
+     * Returns the non-empty buckets as {@code [highest equivalent value, count]} pairs, in ascending value order.
+     */
+    public List<long[]> buckets() {
+        List<long[]> res = new ArrayList<>();
+
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+
+            if (count > 0) {
+                res.add(new long[] {highestEquivalent(i), count});
+            }
+        }
+
+        return res;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift);
+
+        // subBucket is in [SUB_BUCKETS / 2, SUB_BUCKETS): the upper half of the sub-buckets of the range.
+        return shift * SUB_BUCKETS + subBucket;
+    }
+
+    private static long highestEquivalent(int index) {
+        int shift = index / SUB_BUCKETS;
+        long subBucket = index % SUB_BUCKETS;
+
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator issuing requests at a constant arrival rate.
+ * <p>
+ * Request {@code i} is scheduled at {@code start + i / rate} whether or not earlier requests have completed, and its
+ * response time is measured from that intended start rather than from the moment it was actually sent. A stalled
+ * target therefore shows up in the percentiles of every request that should have been sent during the stall, which
+ * corrects for coordinated omission. The service time, measured from the actual send, is reported separately.
+ * <p>
+ * When {@code maxOutstanding} requests are in flight, the next requests are queued and sent as soon as a slot frees
+ * up, still timed from their intended start. Requests that have not completed when the drain timeout expires are
+ * recorded with the time from their intended start to the deadline, which is a lower bound of their response time.
+ */
+public class LoadGenerator {
+    private static final long DRAIN_TIMEOUT_MILLIS = 60_000;
+
+    private final double rate;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int maxOutstanding;
+
+    /**
+     * @param rate Requests per second.
+     * @param warmup Time during which requests are sent but not recorded.
+     * @param duration Measured time following the warmup.
+     * @param maxOutstanding Requests in flight above which new requests wait for a free slot.
+     */
+    public LoadGenerator(double rate, Duration warmup, Duration duration, int maxOutstanding) {
+        if (rate <= 0 || maxOutstanding <= 0) {
+            throw new IllegalArgumentException("Rate and max outstanding requests must be positive");
+        }
+
+        this.rate = rate;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.maxOutstanding = maxOutstanding;
+    }
+
+    /**
+     * Drives the target for the warmup and the measured duration, then waits for the outstanding requests.
+     */
+    public LoadTestResult run(LoadTarget target) {
+        LatencyHistogram responseTime = new LatencyHistogram();
+        LatencyHistogram serviceTime = new LatencyHistogram();
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        Semaphore window = new Semaphore(maxOutstanding);
+
+        // Intended start of the measured requests in flight, by sequence number. Whoever removes an entry, the
+        // completion callback or the drain, records it.
+        Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+        double intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long measureStart = start + warmup.toNanos();
+        long end = measureStart + duration.toNanos();
+        long deadline = end + TimeUnit.MILLISECONDS.toNanos(DRAIN_TIMEOUT_MILLIS);
+        long sent = 0;
+        long queued = 0;
+        long unfinished = 0;
+
+        for (long seq = 0; ; seq++) {
+            long intended = start + (long) (seq * intervalNanos);
+
+            if (intended >= end) {
+                break;
+            }
+
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+
+            boolean measured = intended >= measureStart;
+
+            if (!window.tryAcquire()) {
+                if (measured) {
+                    queued++;
+                }
+
+                if (!acquire(window, 1, deadline)) {
+                    // The target did not free a slot until the deadline: the remaining requests are never sent.
+                    for (long s = seq; ; s++) {
+                        long i = start + (long) (s * intervalNanos);
+
+                        if (i >= end) {
+                            break;
+                        }
+
+                        if (i >= measureStart) {
+                            responseTime.recordNanos(deadline - i);
+                            unfinished++;
+                        }
+                    }
+
+                    break;
+                }
+            }
+
+            if (measured) {
+                sent++;
+                pending.put(seq, intended);
+            }
+
+            long sentAt = System.nanoTime();
+            long key = seq;
+            CompletableFuture<?> future;
+
+            try {
+                future = target.invokeAsync(seq);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+
+            future.whenComplete((res, err) -> {
+                long completedAt = System.nanoTime();
+
+                if (measured && pending.remove(key) != null) {
+                    if (err != null) {
+                        errors.incrementAndGet();
+                    } else {
+                        responseTime.recordNanos(completedAt - intended);
+                        serviceTime.recordNanos(completedAt - sentAt);
+                        completed.incrementAndGet();
+                    }
+                }
+
+                window.release();
+            });
+        }
+
+        if (!acquire(window, maxOutstanding, deadline)) {
+            for (Long key : pending.keySet()) {
+                Long intended = pending.remove(key);
+
+                if (intended != null) {
+                    responseTime.recordNanos(deadline - intended);
+                    unfinished++;
+                }
+            }
+        }
+
+        return new LoadTestResult(rate, duration, sent, completed.get(), responseTime, serviceTime, errors.get(),
+                queued, unfinished);
+    }
+
+    /**
+     * Acquires the permits, waiting no longer than until the deadline.
+     *
+     * @return Whether the permits were acquired.
+     */
+    private static boolean acquire(Semaphore window, int permits, long deadline) {
+        try {
+            return window.tryAcquire(permits, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return false;
+        }
+    }
+}
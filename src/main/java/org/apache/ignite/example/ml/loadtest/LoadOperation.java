@@ -0,0 +1,40 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+/**
+ * Operations covered by the load test.
+ */
+public enum LoadOperation {
+    /** Single-input prediction compute job. */
+    PREDICT,
+
+    /** Batch prediction compute job. */
+    BATCH_PREDICT,
+
+    /** Prediction compute job over the rows of a SQL query. */
+    SQL,
+
+    /** Stand-in model called in the load generator process, without a cluster. Measures the harness itself. */
+    LOCAL;
+
+    /**
+     * Parses an operation name such as {@code batchPredict} or {@code BATCH_PREDICT}.
+     */
+    public static LoadOperation parse(String name) {
+        for (LoadOperation op : values()) {
+            if (op.name().replace("_", "").equalsIgnoreCase(name.replace("_", ""))) {
+                return op;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown operation: " + name);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Operation driven by the {@link LoadGenerator}.
+ */
+public interface LoadTarget extends AutoCloseable {
+    /**
+     * Starts the operation with the given sequence number.
+     * The call must not wait for the operation to complete, otherwise the generator falls behind its schedule.
+     *
+     * @return Future completed when the operation completes.
+     */
+    CompletableFuture<?> invokeAsync(long seq);
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import ai.djl.modality.Classifications;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.compute.JobDescriptor;
+import org.apache.ignite.compute.JobExecutionOptions;
+import org.apache.ignite.compute.JobExecutorType;
+import org.apache.ignite.compute.JobTarget;
+import org.apache.ignite.deployment.DeploymentUnit;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.gridgain.ml.compute.MlBatchPredictionJob;
+import org.gridgain.ml.compute.MlSimplePredictionJob;
+import org.gridgain.ml.compute.MlSqlPredictionJob;
+import org.gridgain.ml.model.MlBatchJobParameters;
+import org.gridgain.ml.model.MlSimpleJobParameters;
+import org.gridgain.ml.model.MlSqlJobParameters;
+import org.gridgain.ml.model.ModelConfig;
+import org.gridgain.ml.model.ModelType;
+import org.gridgain.ml.model.marshalling.MlInputMarshaller;
+import org.gridgain.ml.model.marshalling.MlOutputListMarshaller;
+import org.gridgain.ml.model.marshalling.MlOutputMarshaller;
+
+/**
+ * Factory of the {@link LoadTarget}s of every {@link LoadOperation}, backed either by the {@link StandInModel} or by
+ * the deployed sentiment model.
+ */
+final class LoadTargets {
+    static final String MODEL_ID = "sentiment-model";
+    static final String MODEL_VERSION = "1.0.0";
+    static final String JOB_UNIT = "ml-examples";
+    static final String JOB_UNIT_VERSION = "1.0.0";
+
+    private static final String[] SAMPLE_INPUTS = {
+            "This movie is very good",
+            "This book is not good",
+            "This food is very good",
+            "This game is not good",
+            "This song is very good",
+            "This show is very good",
+            "This app is very good"
+    };
+
+    private LoadTargets() {
+    }
+
+    /**
+     * Calls the stand-in model in this process from a pool of {@code threads} workers.
+     */
+    static LoadTarget local(StandInModel model, int batchSize, int threads) {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        return new LoadTarget() {
+            @Override
+            public CompletableFuture<?> invokeAsync(long seq) {
+                List<String> inputs = inputs(seq, batchSize);
+
+                return CompletableFuture.supplyAsync(() -> model.batchPredict(inputs), pool);
+            }
+
+            @Override
+            public void close() {
+                pool.shutdownNow();
+            }
+        };
+    }
+
+    /**
+     * Submits {@link StandInPredictionJob}s shaped like the ML jobs of the given operation.
+     */
+    static LoadTarget standIn(IgniteClient client, LoadOperation op, long iterations, int batchSize, String sqlQuery) {
+        JobDescriptor<StandInRequest, List<String>> descriptor = JobDescriptor.builder(StandInPredictionJob.class)
+                .units(List.of(new DeploymentUnit(JOB_UNIT, JOB_UNIT_VERSION)))
+                .argumentMarshaller(ByteArrayMarshaller.create())
+                .resultMarshaller(ByteArrayMarshaller.create())
+                .build();
+
+        JobTarget target = JobTarget.anyNode(client.clusterNodes());
+
+        return seq -> {
+            StandInRequest request;
+
+            switch (op) {
+                case PREDICT:
+                    request = StandInRequest.ofInputs(iterations, inputs(seq, 1));
+                    break;
+                case BATCH_PREDICT:
+                    request = StandInRequest.ofInputs(iterations, inputs(seq, batchSize));
+                    break;
+                case SQL:
+                    request = StandInRequest.ofSql(iterations, sqlQuery);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Operation is not executed by a compute job: " + op);
+            }
+
+            return client.compute().executeAsync(target, descriptor, request);
+        };
+    }
+
+    /**
+     * Submits the ML prediction jobs of the given operation against the deployed sentiment model.
+     */
+    static LoadTarget model(IgniteClient client, LoadOperation op, int batchSize, String sqlQuery) {
+        JobTarget target = JobTarget.anyNode(client.clusterNodes());
+
+        switch (op) {
+            case PREDICT: {
+                JobDescriptor<MlSimpleJobParameters, Classifications> descriptor = JobDescriptor.builder(
+                                MlSimplePredictionJob.<MlSimpleJobParameters, Classifications>jobClass())
+                        .units(List.of(new DeploymentUnit(MODEL_ID, MODEL_VERSION)))
+                        .options(mlOptions())
+                        .argumentMarshaller(new MlInputMarshaller<>())
+                        .resultMarshaller(new MlOutputMarshaller<>())
+                        .build();
+
+                return seq -> client.compute().executeAsync(target, descriptor, MlSimpleJobParameters.builder()
+                        .id(MODEL_ID)
+                        .version(MODEL_VERSION)
+                        .type(ModelType.PYTORCH)
+                        .config(ModelConfig.builder().build())
+                        .property("input_class", String.class.getName())
+                        .property("output_class", Classifications.class.getName())
+                        .property("application", "ai.djl.Application$NLP$SENTIMENT_ANALYSIS")
+                        .property("translatorFactory",
+                                "ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                        .input(inputs(seq, 1).get(0))
+                        .build());
+            }
+
+            case BATCH_PREDICT: {
+                JobDescriptor<MlBatchJobParameters, List<Classifications>> descriptor = JobDescriptor.builder(
+                                MlBatchPredictionJob.<MlBatchJobParameters, Classifications>jobClass())
+                        .units(List.of(new DeploymentUnit(MODEL_ID, MODEL_VERSION)))
+                        .options(mlOptions())
+                        .argumentMarshaller(new MlInputMarshaller<>())
+                        .resultMarshaller(new MlOutputListMarshaller<>())
+                        .build();
+
+                return seq -> client.compute().executeAsync(target, descriptor, MlBatchJobParameters.builder()
+                        .id(MODEL_ID)
+                        .version(MODEL_VERSION)
+                        .type(ModelType.PYTORCH)
+                        .config(ModelConfig.builder().batchSize(batchSize).build())
+                        .property("input_class", String.class.getName())
+                        .property("output_class", Classifications.class.getName())
+                        .property("application", "ai.djl.Application$NLP$SENTIMENT_ANALYSIS")
+                        .property("translatorFactory",
+                                "ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                        .batchInput(inputs(seq, batchSize))
+                        .build());
+            }
+
+            case SQL: {
+                JobDescriptor<MlSqlJobParameters, List<Classifications>> descriptor = JobDescriptor.builder(
+                                MlSqlPredictionJob.<MlSqlJobParameters, Classifications>jobClass())
+                        .units(List.of(new DeploymentUnit(MODEL_ID, MODEL_VERSION)))
+                        .options(mlOptions())
+                        .argumentMarshaller(new MlInputMarshaller<>())
+                        .resultMarshaller(new MlOutputListMarshaller<>())
+                        .build();
+
+                MlSqlJobParameters params = MlSqlJobParameters.builder()
+                        .id(MODEL_ID)
+                        .version(MODEL_VERSION)
+                        .type(ModelType.PYTORCH)
+                        .config(ModelConfig.builder().build())
+                        .property("input_class", String.class.getName())
+                        .property("output_class", Classifications.class.getName())
+                        .property("application", "ai.djl.Application$NLP$SENTIMENT_ANALYSIS")
+                        .property("translatorFactory",
+                                "ai.djl.pytorch.zoo.nlp.sentimentanalysis.PtDistilBertTranslatorFactory")
+                        .sqlQuery(sqlQuery)
+                        .sqlParams(null)
+                        .build();
+
+                return seq -> client.compute().executeAsync(target, descriptor, params);
+            }
+
+            default:
+                throw new IllegalArgumentException("Operation is not executed by a compute job: " + op);
+        }
+    }
+
+    /**
+     * Returns the sample inputs a request with the given sequence number scores. The same sequence number always
+     * yields the same inputs, so runs are repeatable.
+     */
+    static List<String> inputs(long seq, int count) {
+        List<String> inputs = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            inputs.add(SAMPLE_INPUTS[(int) ((seq + i) % SAMPLE_INPUTS.length)]);
+        }
+
+        return inputs;
+    }
+
+    private static JobExecutionOptions mlOptions() {
+        return JobExecutionOptions.builder()
+                .executorType(JobExecutorType.ML_EMBEDDED)
+                .build();
+    }
+}
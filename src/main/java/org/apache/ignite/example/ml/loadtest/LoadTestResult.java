@@ -0,0 +1,192 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a {@link LoadGenerator} run over the measured period.
+ */
+public class LoadTestResult {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final double targetRate;
+    private final Duration duration;
+    private final long sent;
+    private final long completed;
+    private final LatencyHistogram responseTime;
+    private final LatencyHistogram serviceTime;
+    private final long errors;
+    private final long queued;
+    private final long unfinished;
+
+    LoadTestResult(
+            double targetRate,
+            Duration duration,
+            long sent,
+            long completed,
+            LatencyHistogram responseTime,
+            LatencyHistogram serviceTime,
+            long errors,
+            long queued,
+            long unfinished
+    ) {
+        this.targetRate = targetRate;
+        this.duration = duration;
+        this.sent = sent;
+        this.completed = completed;
+        this.responseTime = responseTime;
+        this.serviceTime = serviceTime;
+        this.errors = errors;
+        this.queued = queued;
+        this.unfinished = unfinished;
+    }
+
+    /**
+     * Response time from the intended start, corrected for coordinated omission. Includes the unfinished requests,
+     * recorded up to the drain deadline.
+     */
+    public LatencyHistogram responseTime() {
+        return responseTime;
+    }
+
+    /** Service time from the actual send. */
+    public LatencyHistogram serviceTime() {
+        return serviceTime;
+    }
+
+    public long errors() {
+        return errors;
+    }
+
+    public long completed() {
+        return completed;
+    }
+
+    /** Requests sent late because {@code maxOutstanding} requests were already in flight. */
+    public long queued() {
+        return queued;
+    }
+
+    /** Requests that had not completed, or had not even been sent, when the drain timeout expired. */
+    public long unfinished() {
+        return unfinished;
+    }
+
+    /** Successfully completed requests per second. */
+    public double achievedRate() {
+        return completed * 1000.0 / Math.max(1, duration.toMillis());
+    }
+
+    /**
+     * Prints a summary of the run.
+     */
+    public void print() {
+        System.out.printf("   Target rate: %.1f/s, achieved: %.1f/s\n", targetRate, achievedRate());
+        System.out.printf("   Sent: %d, completed: %d, errors: %d, queued: %d, unfinished: %d\n",
+                sent, completed, errors, queued, unfinished);
+
+        for (double p : PERCENTILES) {
+            System.out.printf("   p%-6s response %8d us, service %8d us\n",
+                    p, responseTime.percentileMicros(p), serviceTime.percentileMicros(p));
+        }
+
+        System.out.printf("   max     response %8d us, service %8d us\n",
+                responseTime.maxMicros(), serviceTime.maxMicros());
+    }
+
+    /**
+     * Renders the result as JSON, preceded by the given run settings.
+     */
+    public String toJson(Map<String, Object> settings) {
+        StringBuilder sb = new StringBuilder("{\n");
+
+        sb.append("  \"settings\": {");
+        String sep = "\n";
+        for (Map.Entry<String, Object> e : settings.entrySet()) {
+            sb.append(sep).append("    ").append(quote(e.getKey())).append(": ").append(value(e.getValue()));
+            sep = ",\n";
+        }
+        sb.append("\n  },\n");
+
+        sb.append("  \"targetRate\": ").append(targetRate).append(",\n");
+        sb.append("  \"achievedRate\": ").append(achievedRate()).append(",\n");
+        sb.append("  \"durationMillis\": ").append(duration.toMillis()).append(",\n");
+        sb.append("  \"sent\": ").append(sent).append(",\n");
+        sb.append("  \"completed\": ").append(completed).append(",\n");
+        sb.append("  \"errors\": ").append(errors).append(",\n");
+        sb.append("  \"queued\": ").append(queued).append(",\n");
+        sb.append("  \"unfinished\": ").append(unfinished).append(",\n");
+        sb.append("  \"responseTimeMicros\": ");
+        appendHistogram(sb, responseTime);
+        sb.append(",\n");
+        sb.append("  \"serviceTimeMicros\": ");
+        appendHistogram(sb, serviceTime);
+        sb.append("\n}\n");
+
+        return sb.toString();
+    }
+
+    private static void appendHistogram(StringBuilder sb, LatencyHistogram histogram) {
+        sb.append("{\n");
+        sb.append("    \"mean\": ").append(histogram.meanMicros()).append(",\n");
+        sb.append("    \"max\": ").append(histogram.maxMicros()).append(",\n");
+        sb.append("    \"percentiles\": {");
+
+        String sep = "";
+        for (double p : PERCENTILES) {
+            sb.append(sep).append('"').append(p).append("\": ").append(histogram.percentileMicros(p));
+            sep = ", ";
+        }
+
+        sb.append("},\n");
+        sb.append("    \"buckets\": [");
+
+        List<long[]> buckets = histogram.buckets();
+        for (int i = 0; i < buckets.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append('[').append(buckets.get(i)[0]).append(", ")
+                    .append(buckets.get(i)[1]).append(']');
+        }
+
+        sb.append("]\n  }");
+    }
+
+    private static String value(Object value) {
+        if (value == null) {
+            return "null";
+        }
+
+        if (value instanceof Number || value instanceof Boolean) {
+            return value.toString();
+        }
+
+        return quote(value.toString());
+    }
+
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+
+        return sb.append('"').toString();
+    }
+}
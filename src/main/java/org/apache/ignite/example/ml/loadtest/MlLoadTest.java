@@ -0,0 +1,175 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.ignite.client.IgniteClient;
+import org.apache.ignite.sql.IgniteSql;
+
+/**
+ * Load-test and latency-profile harness for the ML prediction paths.
+ * <p>
+ * Drives one {@link LoadOperation} at a constant arrival rate with the {@link LoadGenerator}, prints the
+ * coordinated-omission-corrected latency profile and saves it as JSON for comparison between runs. By default the
+ * operations are backed by the deterministic {@link StandInModel}, so no model artifacts are needed; pass
+ * {@code --mode=model} to run the same load against the deployed sentiment model instead.
+ * <p>
+ * Arguments, all optional:
+ * <ul>
+ *     <li>{@code --operation=predict|batchPredict|sql|local} - operation to drive (default {@code predict});</li>
+ *     <li>{@code --mode=standIn|model} - stand-in or real model (default {@code standIn});</li>
+ *     <li>{@code --rate=<requests per second>} (default 100);</li>
+ *     <li>{@code --warmup=<seconds>} (default 10) and {@code --duration=<seconds>} (default 60);</li>
+ *     <li>{@code --cost-micros=<cost of one stand-in prediction>} (default 1000), or {@code --iterations=<n>} to reuse
+ *     the iteration count of an earlier run;</li>
+ *     <li>{@code --batch-size=<inputs per batch request>} (default 16);</li>
+ *     <li>{@code --sql-rows=<rows scored by a SQL request>} (default 16);</li>
+ *     <li>{@code --max-outstanding=<requests in flight before new ones queue>} (default 10000);</li>
+ *     <li>{@code --threads=<workers of the local operation>} (default: available processors);</li>
+ *     <li>{@code --address=<client address>} (default {@code 127.0.0.1:10800});</li>
+ *     <li>{@code --output=<results directory>} (default {@code loadtest-results}).</li>
+ * </ul>
+ * Stand-in compute jobs require the example classes to be deployed as the {@value LoadTargets#JOB_UNIT} unit.
+ */
+public class MlLoadTest {
+
+    private static final String TABLE_NAME = "loadtest_reviews";
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> opts = parseArgs(args);
+
+        LoadOperation op = LoadOperation.parse(opts.getOrDefault("operation", "predict"));
+        boolean standIn = !"model".equalsIgnoreCase(opts.getOrDefault("mode", "standIn"));
+        double rate = Double.parseDouble(opts.getOrDefault("rate", "100"));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(opts.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(opts.getOrDefault("duration", "60")));
+        int batchSize = Integer.parseInt(opts.getOrDefault("batch-size", "16"));
+        int sqlRows = Integer.parseInt(opts.getOrDefault("sql-rows", "16"));
+        int maxOutstanding = Integer.parseInt(opts.getOrDefault("max-outstanding", "10000"));
+        int threads = Integer.parseInt(opts.getOrDefault("threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        String address = opts.getOrDefault("address", "127.0.0.1:10800");
+        Path outputDir = Paths.get(opts.getOrDefault("output", "loadtest-results"));
+
+        if (op == LoadOperation.LOCAL && !standIn) {
+            throw new IllegalArgumentException("The local operation only supports the stand-in model");
+        }
+
+        long iterations = 0;
+        if (standIn) {
+            iterations = opts.containsKey("iterations")
+                    ? Long.parseLong(opts.get("iterations"))
+                    : StandInModel.calibrate(Long.parseLong(opts.getOrDefault("cost-micros", "1000")));
+        }
+
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("operation", op.name());
+        settings.put("mode", standIn ? "standIn" : "model");
+        settings.put("rate", rate);
+        settings.put("warmupSeconds", warmup.getSeconds());
+        settings.put("durationSeconds", duration.getSeconds());
+        settings.put("iterations", standIn ? iterations : null);
+        settings.put("batchSize", batchSize);
+        settings.put("sqlRows", sqlRows);
+        settings.put("maxOutstanding", maxOutstanding);
+        settings.put("threads", op == LoadOperation.LOCAL ? threads : null);
+        settings.put("address", op == LoadOperation.LOCAL ? null : address);
+        settings.put("javaVersion", System.getProperty("java.version"));
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        settings.put("timestamp", LocalDateTime.now().toString());
+
+        System.out.println("=== ML Load Test ===");
+        settings.forEach((k, v) -> {
+            if (v != null) {
+                System.out.println("   " + k + ": " + v);
+            }
+        });
+
+        LoadTestResult result;
+
+        if (op == LoadOperation.LOCAL) {
+            try (LoadTarget target = LoadTargets.local(new StandInModel(iterations), batchSize, threads)) {
+                result = new LoadGenerator(rate, warmup, duration, maxOutstanding).run(target);
+            }
+        } else {
+            try (IgniteClient client = IgniteClient.builder().addresses(address).build()) {
+                String sqlQuery = "SELECT review_text FROM " + TABLE_NAME + " LIMIT " + sqlRows;
+
+                if (op == LoadOperation.SQL) {
+                    setupSampleData(client.sql(), sqlRows);
+                }
+
+                try (LoadTarget target = standIn
+                        ? LoadTargets.standIn(client, op, iterations, batchSize, sqlQuery)
+                        : LoadTargets.model(client, op, batchSize, sqlQuery)) {
+                    result = new LoadGenerator(rate, warmup, duration, maxOutstanding).run(target);
+                } finally {
+                    if (op == LoadOperation.SQL) {
+                        client.sql().execute(null, "DROP TABLE IF EXISTS " + TABLE_NAME);
+                    }
+                }
+            }
+        }
+
+        System.out.println("\n  Results:");
+        result.print();
+
+        Files.createDirectories(outputDir);
+
+        String fileName = String.format("%s-%s-%s.json",
+                op.name().toLowerCase(),
+                settings.get("mode"),
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Path outputFile = outputDir.resolve(fileName);
+
+        Files.writeString(outputFile, result.toJson(settings));
+
+        System.out.println("\n  Results saved to " + outputFile.toAbsolutePath());
+        System.out.println("ML load test complete!");
+    }
+
+    private static void setupSampleData(IgniteSql sql, int rows) {
+        sql.execute(null, "DROP TABLE IF EXISTS " + TABLE_NAME);
+        sql.execute(null,
+                "CREATE TABLE " + TABLE_NAME + " (" +
+                        "review_id INT PRIMARY KEY, " +
+                        "review_text VARCHAR(1000)" +
+                        ")");
+
+        for (int i = 0; i < rows; i++) {
+            sql.execute(null, "INSERT INTO " + TABLE_NAME + " (review_id, review_text) VALUES (?, ?)",
+                    i, LoadTargets.inputs(i, 1).get(0));
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+
+            int eq = arg.indexOf('=');
+            opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+
+        return opts;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic CPU-bound stand-in for a sentiment model.
+ * <p>
+ * Every prediction runs a fixed number of hash rounds seeded by the input, so the cost of a prediction depends only on
+ * the configured iteration count and the label only on the input. Use {@link #calibrate(long)} to derive the iteration
+ * count from a target cost, and pass the same count to later runs to keep them comparable across machines.
+ */
+public final class StandInModel {
+    private static final String POSITIVE = "POSITIVE";
+    private static final String NEGATIVE = "NEGATIVE";
+
+    /** Receives the calibration results, so that the JIT cannot eliminate the calibrated loop as dead code. */
+    @SuppressWarnings("unused")
+    private static volatile long calibrationSink;
+
+    private final long iterations;
+
+    public StandInModel(long iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("Iterations must be positive: " + iterations);
+        }
+
+        this.iterations = iterations;
+    }
+
+    /**
+     * Returns the number of iterations that takes roughly {@code costMicros} on the current machine.
+     */
+    public static long calibrate(long costMicros) {
+        long rounds = 1_000_000;
+        long bestNanos = Long.MAX_VALUE;
+        long sink = 0;
+
+        // The first rounds let the JIT compile the loop; the fastest round is the least disturbed one.
+        for (int i = 0; i < 10; i++) {
+            long start = System.nanoTime();
+            sink += run(i, rounds);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        calibrationSink = sink;
+
+        return Math.max(1, costMicros * 1000 * rounds / Math.max(1, bestNanos));
+    }
+
+    public long iterations() {
+        return iterations;
+    }
+
+    public String predict(String input) {
+        return (run(input.hashCode(), iterations) & 1) == 0 ? POSITIVE : NEGATIVE;
+    }
+
+    public List<String> batchPredict(List<String> inputs) {
+        List<String> labels = new ArrayList<>(inputs.size());
+
+        for (String input : inputs) {
+            labels.add(predict(input));
+        }
+
+        return labels;
+    }
+
+    private static long run(long seed, long iterations) {
+        long h = seed;
+
+        for (long i = 0; i < iterations; i++) {
+            h = mix(h + i);
+        }
+
+        return h;
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.ignite.compute.ComputeJob;
+import org.apache.ignite.compute.JobExecutionContext;
+import org.apache.ignite.marshalling.ByteArrayMarshaller;
+import org.apache.ignite.marshalling.Marshaller;
+import org.apache.ignite.sql.ResultSet;
+import org.apache.ignite.sql.SqlRow;
+
+/**
+ * Scores inputs with the {@link StandInModel} on the executing node, in place of the ML prediction jobs.
+ * <p>
+ * The job mirrors {@code MlSimplePredictionJob}, {@code MlBatchPredictionJob} and {@code MlSqlPredictionJob}: it
+ * scores the inputs of the request, or the first column of the rows returned by its SQL query, and returns one label
+ * per input.
+ */
+public class StandInPredictionJob implements ComputeJob<StandInRequest, List<String>> {
+    @Override
+    public CompletableFuture<List<String>> executeAsync(JobExecutionContext context, StandInRequest request) {
+        StandInModel model = new StandInModel(request.iterations());
+        List<String> inputs = request.inputs();
+
+        if (request.sqlQuery() != null) {
+            inputs = new ArrayList<>();
+
+            try (ResultSet<SqlRow> rs = context.ignite().sql().execute(null, request.sqlQuery())) {
+                while (rs.hasNext()) {
+                    inputs.add(rs.next().stringValue(0));
+                }
+            }
+        }
+
+        return CompletableFuture.completedFuture(model.batchPredict(inputs));
+    }
+
+    @Override
+    public Marshaller<StandInRequest, byte[]> inputMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+
+    @Override
+    public Marshaller<List<String>, byte[]> resultMarshaller() {
+        return ByteArrayMarshaller.create();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (C) GridGain Systems. All Rights Reserved.
+ *  _________        _____ __________________        _____
+ *  __  ____/___________(_)______  /__  ____/______ ____(_)_______
+ *  _  / __  __  ___/__  / _  __  / _  / __  _  __ `/__  / __  __ \
+ *  / /_/ /  _  /    _  /  / /_/ /  / /_/ /  / /_/ / _  /  _  / / /
+ *  \____/   /_/     /_/   \_,__/   \____/   \__,_/  /_/   /_/ /_/
+ */
+
+package org.apache.ignite.example.ml.loadtest;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Arguments of {@link StandInPredictionJob}: either the inputs to score or a SQL query returning them.
+ */
+public class StandInRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final long iterations;
+    private final List<String> inputs;
+    private final String sqlQuery;
+
+    private StandInRequest(long iterations, List<String> inputs, String sqlQuery) {
+        this.iterations = iterations;
+        this.inputs = inputs;
+        this.sqlQuery = sqlQuery;
+    }
+
+    public static StandInRequest ofInputs(long iterations, List<String> inputs) {
+        return new StandInRequest(iterations, List.copyOf(inputs), null);
+    }
+
+    /**
+     * Creates a request scoring the first column of the rows returned by {@code sqlQuery}.
+     */
+    public static StandInRequest ofSql(long iterations, String sqlQuery) {
+        return new StandInRequest(iterations, List.of(), sqlQuery);
+    }
+
+    public long iterations() {
+        return iterations;
+    }
+
+    public List<String> inputs() {
+        return inputs;
+    }
+
+    public String sqlQuery() {
+        return sqlQuery;
+    }
+}